@@ -120,6 +120,10 @@ dependencies {
 
     testImplementation(platform("org.junit:junit-bom:5.9.1"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    // Bukkit types for tests, compileOnly is not on the test classpath
+    testImplementation("org.spigotmc:spigot-api:1.20.2-R0.1-SNAPSHOT") {
+        exclude("com.google.code.gson", "gson")
+    }
 }
 
 
@@ -25,13 +25,19 @@ import com.dre.brewery.configuration.ConfigManager;
 import com.dre.brewery.configuration.files.Config;
 import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.recipe.BCauldronRecipe;
+import com.dre.brewery.recipe.ParticleColorTimeline;
 import com.dre.brewery.recipe.RecipeItem;
+import com.dre.brewery.storage.DataManager;
 import com.dre.brewery.utility.BUtil;
+import com.dre.brewery.utility.BlockKey;
 import com.dre.brewery.utility.MaterialUtil;
 import com.dre.brewery.utility.MinecraftVersion;
-import com.dre.brewery.utility.Tuple;
+import com.dre.brewery.utility.RegionBatchExecutor;
+import com.dre.brewery.utility.WorldPartitionedMap;
 import lombok.Getter;
 import lombok.Setter;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Color;
 import org.bukkit.Effect;
 import org.bukkit.Location;
@@ -52,13 +58,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Getter
 @Setter
@@ -68,67 +74,152 @@ public class BCauldron {
     private static final Config config = ConfigManager.getConfig(Config.class);
     private static final Lang lang = ConfigManager.getConfig(Lang.class);
     public static final int PARTICLEPAUSE = 15;
+    // Players further away than this don't get Cauldron particles sent to them by the server anyway
+    public static final int PARTICLE_RANGE = 32;
+    // Further away than this, particles are thinned out with the square of the distance
+    public static final int PARTICLE_DETAIL_RANGE = 12;
+    // Minutes between checks of a Cauldron against the World, in case we missed a change
+    public static final int HEAT_RECHECK = 5;
     public static Random particleRandom = new Random();
     private static final Set<UUID> plInteracted = new HashSet<>(); // Interact Event helper
     @Getter
-    public static Map<Block, BCauldron> bcauldrons = new ConcurrentHashMap<>(); // All active cauldrons. Mapped to their block for fast retrieve
+    public static final WorldPartitionedMap<BCauldron> bcauldrons = new WorldPartitionedMap<>(); // All active cauldrons. Mapped to their block position for fast retrieve, partitioned by World for fast unload. Can still be queried by Block
 
     private BIngredients ingredients = new BIngredients();
     private final Block block;
-    private int state = 0;
-    private boolean changed = false; // Not really needed anymore
-    private BCauldronRecipe particleRecipe; // null if we haven't checked, empty if there is none
-    private Color particleColor;
+    private final BlockKey blockKey;
+    // The cooking time is not counted up, but computed from the Barrel.agingClock minutes in which the Cauldron was heated
+    private int cookedMinutes = 0; // Cooking time of all heated intervals that have ended
+    private long heatedSince = -1; // The Barrel.agingClock when the current heated interval began, -1 if not heated
+    private boolean changed = false; // If the ingredients are shared with a Brew that was filled from this Cauldron
+    private BCauldronRecipe particleRecipe; // null if we haven't checked or there is none
+    private ParticleColorTimeline particleColors; // null if we haven't checked the recipe yet
+    private Particle.DustOptions particleDust; // Built from the particle color, only used on 1.13+
     private final Location particleLocation;
+    private final Location randParticleLocation; // Reused for every particle, only touched on the thread owning the Block
     private final UUID id;
+    private boolean heatKnown; // false if the heat source needs to be checked against the World again
+    private long lastChecked; // The Barrel.agingClock when this Cauldron was last checked against the World
 
     public BCauldron(Block block) {
         this.block = block;
+        this.blockKey = BlockKey.of(block);
         this.particleLocation = block.getLocation().add(0.5, 0.9, 0.5);
+        this.randParticleLocation = particleLocation.clone();
         this.id = UUID.randomUUID();
+        this.heatedSince = MaterialUtil.isCauldronHeatSource(block.getRelative(BlockFace.DOWN)) ? Barrel.agingClock : -1;
+        this.heatKnown = true;
+        this.lastChecked = Barrel.agingClock;
     }
 
-    // loading from file
+    /**
+     * Load from File
+     * <p>Counts as heated from now on, until the heat source is checked once the Chunk is loaded.
+     * Use setCookedMinutes and setHeatedSince to restore the exact heated interval instead.
+     */
     public BCauldron(Block block, BIngredients ingredients, int state, UUID id) {
         this.block = block;
-        this.state = state;
+        this.blockKey = BlockKey.of(block);
+        this.cookedMinutes = state;
+        this.heatedSince = Barrel.agingClock;
         this.ingredients = ingredients;
         particleLocation = block.getLocation().add(0.5, 0.9, 0.5);
+        randParticleLocation = particleLocation.clone();
         this.id = id;
     }
 
     /**
-     * Updates this Cauldron, increasing the cook time and checking for Heatsource
+     * Checks this Cauldron against the World, in case we missed a change. The Chunk needs to be loaded.
      *
      * @return false if Cauldron needs to be removed
      */
-    public boolean onUpdate() {
-        // add a minute to cooking time
-        if (!BUtil.isChunkLoaded(block)) {
-            increaseState();
-        } else {
-            if (!MaterialUtil.isWaterCauldron(block.getType())) {
-                // Catch any WorldEdit etc. removal
-                return false;
-            }
-            // Check if fire still alive
-            if (MaterialUtil.isCauldronHeatSource(block.getRelative(BlockFace.DOWN))) {
-                increaseState();
-            }
+    public boolean checkWorld() {
+        lastChecked = Barrel.agingClock;
+        if (!MaterialUtil.isWaterCauldron(block.getType())) {
+            // Catch any WorldEdit etc. removal
+            return false;
         }
+        heatKnown = false;
+        isHeated();
         return true;
     }
 
+    /**
+     * Get the cooking time in minutes: all minutes of the Barrel.agingClock in which this Cauldron was heated.
+     * <p>While its Chunk is not loaded, the Cauldron keeps the heat it had when it was unloaded.
+     */
+    public int getState() {
+        if (heatedSince < 0) {
+            return cookedMinutes;
+        }
+        // The clock may be behind if the data was saved after the clock
+        return cookedMinutes + (int) Math.max(0, Barrel.agingClock - heatedSince);
+    }
+
+    /**
+     * Set the cooking time in minutes
+     */
+    public void setState(int state) {
+        cookedMinutes = state;
+        if (heatedSince >= 0) {
+            heatedSince = Barrel.agingClock;
+        }
+        DataManager.cauldronChanges.markDirty(this);
+    }
+
+    /**
+     * If there is a heat source below this Cauldron.
+     * <p>Cached and only checked against the World when a block change below was noticed,
+     * or every few minutes in case we missed one. The Chunk needs to be loaded.
+     */
+    public boolean isHeated() {
+        if (!heatKnown) {
+            setHeated(MaterialUtil.isCauldronHeatSource(block.getRelative(BlockFace.DOWN)));
+            heatKnown = true;
+        }
+        return heatedSince >= 0;
+    }
+
+    // Ends or begins a heated interval
+    private void setHeated(boolean heated) {
+        if (heated == heatedSince >= 0) {
+            return;
+        }
+        if (heated) {
+            heatedSince = Barrel.agingClock;
+        } else {
+            cookedMinutes = getState();
+            heatedSince = -1;
+        }
+        DataManager.cauldronChanges.markDirty(this);
+    }
+
+    /**
+     * A Block may have become or stopped being a heat source, check the Cauldron above it again
+     *
+     * @param block The Block that changed
+     * @param type  The Material it changed from or to, whichever may be a heat source
+     */
+    public static void heatSourceChanged(Block block, Material type) {
+        if (!MaterialUtil.isHeatSourceMaterial(type) || !bcauldrons.hasWorld(block.getWorld().getUID())) {
+            return;
+        }
+        BCauldron cauldron = bcauldrons.get(BlockKey.of(block.getWorld(), block.getX(), block.getY() + 1, block.getZ()));
+        if (cauldron != null) {
+            // The event has not been applied to the World yet, check once it has
+            cauldron.heatKnown = false;
+            BreweryPlugin.getScheduler().runTask(cauldron.particleLocation, () -> cauldron.isHeated());
+        }
+    }
+
     /**
      * Will add a minute to the cooking time
+     *
+     * @deprecated The cooking time now counts up by itself while the Cauldron is heated, use setState if needed
      */
+    @Deprecated
     public void increaseState() {
-        state++;
-        if (changed) {
-            ingredients = ingredients.copy();
-            changed = false;
-        }
-        particleColor = null;
+        setState(getState() + 1);
     }
 
     // add an ingredient to the cauldron
@@ -140,11 +231,13 @@ public class BCauldron {
         }
 
         particleRecipe = null;
-        particleColor = null;
+        particleColors = null;
         ingredients.add(ingredient, rItem);
+        DataManager.cauldronChanges.markDirty(this);
         block.getWorld().playEffect(block.getLocation(), Effect.EXTINGUISH, 0);
+        int state = getState();
         if (state > 0) {
-            state--;
+            setState(state - 1);
         }
         if (config.isEnableCauldronParticles() && !config.isMinimalParticles()) {
             // Few little sparks and lots of water splashes. Offset by 0.2 in x and z
@@ -157,7 +250,7 @@ public class BCauldron {
     // get cauldron by Block
     @Nullable
     public static BCauldron get(Block block) {
-        return bcauldrons.get(block);
+        return bcauldrons.get(BlockKey.of(block));
     }
 
     // get cauldron from block and add given ingredient
@@ -179,7 +272,7 @@ public class BCauldron {
             BCauldron bcauldron = get(block);
             if (bcauldron == null) {
                 bcauldron = new BCauldron(block);
-                BCauldron.bcauldrons.put(block, bcauldron);
+                BCauldron.bcauldrons.put(bcauldron.blockKey, bcauldron);
             }
 
             IngedientAddEvent event = new IngedientAddEvent(player, block, bcauldron, ingredient.clone(), rItem);
@@ -201,18 +294,23 @@ public class BCauldron {
             lang.sendEntry(player, "Perms_NoCauldronFill");
             return true;
         }
-        ItemStack potion = ingredients.cook(state, player);
+        if (changed) {
+            // The last Brew filled from here still uses the ingredients, and cooking changes them
+            ingredients = ingredients.copy();
+            changed = false;
+        }
+        ItemStack potion = ingredients.cook(getState(), player);
         if (potion == null) return false;
 
         if (VERSION.isOrLater(MinecraftVersion.V1_13)) {
             BlockData data = block.getBlockData();
             if (!(data instanceof Levelled)) {
-                bcauldrons.remove(block);
+                remove(block);
                 return false;
             }
             Levelled cauldron = ((Levelled) data);
             if (cauldron.getLevel() <= 0) {
-                bcauldrons.remove(block);
+                remove(block);
                 return false;
             }
 
@@ -220,7 +318,7 @@ public class BCauldron {
             if (MaterialUtil.WATER_CAULDRON != null && cauldron.getLevel() == 1) {
                 // Empty Cauldron
                 block.setType(Material.CAULDRON);
-                bcauldrons.remove(block);
+                remove(block);
             } else {
                 cauldron.setLevel(cauldron.getLevel() - 1);
 
@@ -230,7 +328,7 @@ public class BCauldron {
                 block.setBlockData(data);
 
                 if (cauldron.getLevel() <= 0) {
-                    bcauldrons.remove(block);
+                    remove(block);
                 } else {
                     changed = true;
                 }
@@ -242,14 +340,14 @@ public class BCauldron {
             if (data > 3) {
                 data = 3;
             } else if (data <= 0) {
-                bcauldrons.remove(block);
+                remove(block);
                 return false;
             }
             data -= 1;
             MaterialUtil.setData(block, data);
 
             if (data == 0) {
-                bcauldrons.remove(block);
+                remove(block);
             } else {
                 changed = true;
             }
@@ -274,8 +372,9 @@ public class BCauldron {
         }
         BCauldron bcauldron = get(block);
         if (bcauldron != null) {
-            if (bcauldron.state > 1) {
-                lang.sendEntry(player, "Player_CauldronInfo1", "" + bcauldron.state);
+            int state = bcauldron.getState();
+            if (state > 1) {
+                lang.sendEntry(player, "Player_CauldronInfo1", "" + state);
             } else {
                 lang.sendEntry(player, "Player_CauldronInfo2");
             }
@@ -283,7 +382,7 @@ public class BCauldron {
     }
 
     public void cookEffect() {
-        if (BUtil.isChunkLoaded(block) && MaterialUtil.isCauldronHeatSource(block.getRelative(BlockFace.DOWN))) {
+        if (BUtil.isChunkLoaded(block) && isHeated()) {
             Color color = getParticleColor();
             // Colorable spirally spell, 0 count enables color instead of the offset variables
             // Configurable RGB color. The last parameter seems to control the hue and motion, but I couldn't find
@@ -315,105 +414,126 @@ public class BCauldron {
 
             if (VERSION.isOrLater(MinecraftVersion.V1_13) && particleRandom.nextFloat() > 0.4) {
                 // Two hovering pixely dust clouds, a bit of offset and with DustOptions to give some color and size
-                block.getWorld().spawnParticle(Particle.REDSTONE, particleLocation, 2, 0.15, 0.2, 0.15, new Particle.DustOptions(color, 1.5f));
+                if (particleDust == null || particleDust.getColor() != color) {
+                    particleDust = new Particle.DustOptions(color, 1.5f);
+                }
+                block.getWorld().spawnParticle(Particle.REDSTONE, particleLocation, 2, 0.15, 0.2, 0.15, particleDust);
             }
         }
     }
 
+    // The Location is only read while spawning the particle, so we can reuse it
     private Location getRandParticleLoc() {
-        return new Location(particleLocation.getWorld(),
-            particleLocation.getX() + (particleRandom.nextDouble() * 0.8) - 0.4,
-            particleLocation.getY(),
-            particleLocation.getZ() + (particleRandom.nextDouble() * 0.8) - 0.4);
+        randParticleLocation.setX(particleLocation.getX() + (particleRandom.nextDouble() * 0.8) - 0.4);
+        randParticleLocation.setZ(particleLocation.getZ() + (particleRandom.nextDouble() * 0.8) - 0.4);
+        return randParticleLocation;
     }
 
     /**
-     * Get or calculate the particle color from the current best Cauldron Recipe
+     * Get the particle color from the current best Cauldron Recipe
      * Also calculates the best Cauldron Recipe if not yet done
      *
-     * @return the Particle Color, after potentially calculating it
+     * @return the Particle Color for the current cooking time
      */
     @NotNull
     public Color getParticleColor() {
-        if (state < 1) {
-            return Color.fromRGB(153, 221, 255); // Bright Blue
-        }
-        if (particleColor != null) {
-            return particleColor;
-        }
-        if (particleRecipe == null) {
+        if (particleColors == null) {
             // Check for Cauldron Recipe
             particleRecipe = ingredients.getCauldronRecipe();
+            particleColors = particleRecipe != null ? particleRecipe.getParticleColorTimeline() : ParticleColorTimeline.DEFAULT;
         }
+        return particleColors.get(getState());
+    }
 
-        List<Tuple<Integer, Color>> colorList = null;
-        if (particleRecipe != null) {
-            colorList = particleRecipe.getParticleColor();
-        }
-
-        if (colorList == null || colorList.isEmpty()) {
-            // No color List configured, or no recipe found
-            colorList = new ArrayList<>(1);
-            colorList.add(new Tuple<>(10, Color.fromRGB(77, 166, 255))); // Dark Aqua kind of Blue
-        }
-        int index = 0;
-        while (index < colorList.size() - 1 && colorList.get(index).a() < state) {
-            // Find the first index where the colorList Minute is higher than the state
-            index++;
+    /**
+     * Show the cook effects of the Cauldrons that are close to a Player.
+     * <p>Only the Chunks around online Players are looked at, so Cauldrons without anyone around cost nothing.
+     * The further the closest Player is, the fewer particles are shown.
+     * The Cauldrons that show particles this tick are then handled in one task per region, see {@link RegionBatchExecutor}.
+     */
+    public static void processCookEffects() {
+        if (!config.isEnableCauldronParticles()) return;
+        if (bcauldrons.isEmpty()) {
+            return;
         }
 
-        int minute = colorList.get(index).a();
-        if (minute > state) {
-            // going towards the minute
-            int prevPos;
-            Color prevColor;
-            if (index > 0) {
-                // has previous colours
-                prevPos = colorList.get(index - 1).a();
-                prevColor = colorList.get(index - 1).b();
-            } else {
-                prevPos = 0;
-                prevColor = Color.fromRGB(153, 221, 255); // Bright Blue
+        for (UUID worldId : bcauldrons.getWorlds()) {
+            if (!bcauldrons.hasWorld(worldId)) {
+                continue;
             }
-
-            particleColor = BUtil.weightedMixColor(prevColor, prevPos, state, colorList.get(index).b(), minute);
-        } else if (minute == state) {
-            // reached the minute
-            particleColor = colorList.get(index).b();
-        } else {
-            // passed the last minute configured
-            if (index > 0) {
-                // We have more than one color, just use the last one
-                particleColor = colorList.get(index).b();
-            } else {
-                // Only have one color, go towards a Gray
-                Color nextColor = Color.fromRGB(138, 153, 168); // Dark Teal, Gray
-                int nextPos = (int) (minute * 2.6f);
-
-                if (nextPos <= state) {
-                    // We are past the next color (Gray) as well, keep using it
-                    particleColor = nextColor;
-                } else {
-                    particleColor = BUtil.weightedMixColor(colorList.get(index).b(), minute, state, nextColor, nextPos);
+            World world = Bukkit.getWorld(worldId);
+            if (world == null) {
+                continue;
+            }
+            Map<BCauldron, Integer> visible = null; // Cauldron -> squared distance to the closest Player
+            for (Player player : world.getPlayers()) {
+                Location loc = player.getLocation();
+                int px = loc.getBlockX(), py = loc.getBlockY(), pz = loc.getBlockZ();
+                for (int chunkX = (px - PARTICLE_RANGE) >> 4; chunkX <= (px + PARTICLE_RANGE) >> 4; chunkX++) {
+                    for (int chunkZ = (pz - PARTICLE_RANGE) >> 4; chunkZ <= (pz + PARTICLE_RANGE) >> 4; chunkZ++) {
+                        for (BCauldron cauldron : bcauldrons.getInChunk(worldId, chunkX, chunkZ)) {
+                            int dx = cauldron.block.getX() - px, dy = cauldron.block.getY() - py, dz = cauldron.block.getZ() - pz;
+                            int distSq = dx * dx + dy * dy + dz * dz;
+                            if (distSq <= PARTICLE_RANGE * PARTICLE_RANGE) {
+                                if (visible == null) {
+                                    visible = new HashMap<>();
+                                }
+                                visible.merge(cauldron, distSq, Math::min);
+                            }
+                        }
+                    }
                 }
             }
+            if (visible != null) {
+                scheduleCookEffects(visible);
+            }
         }
-        //P.p.log("RGB: " + particleColor.getRed() + "|" + particleColor.getGreen() + "|" + particleColor.getBlue());
-        return particleColor;
     }
 
-    public static void processCookEffects() {
-        if (!config.isEnableCauldronParticles()) return;
-        if (bcauldrons.isEmpty()) {
-            return;
-        }
+    // Roll which of the visible Cauldrons of one World show particles this tick, and run them batched per region
+    private static void scheduleCookEffects(Map<BCauldron, Integer> visible) {
         final float chance = 1f / PARTICLEPAUSE;
+        final int detailSq = PARTICLE_DETAIL_RANGE * PARTICLE_DETAIL_RANGE;
+        List<BCauldron> shown = new ArrayList<>();
+        for (Map.Entry<BCauldron, Integer> entry : visible.entrySet()) {
+            int distSq = entry.getValue();
+            float levelOfDetail = distSq <= detailSq ? 1f : (float) detailSq / distSq;
+            if (particleRandom.nextFloat() < chance * levelOfDetail) {
+                shown.add(entry.getKey());
+            }
+        }
+        RegionBatchExecutor.execute(shown, BCauldron::getBlock, cauldron -> {
+            if (bcauldrons.get(cauldron.blockKey) != cauldron) {
+                return;
+            }
+            // Cauldrons close to Players are also checked against the World every few minutes
+            if (Barrel.agingClock - cauldron.lastChecked >= HEAT_RECHECK && BUtil.isChunkLoaded(cauldron.block) && !cauldron.checkWorld()) {
+                remove(cauldron.block);
+                return;
+            }
+            cauldron.cookEffect();
+        });
+    }
 
+    /**
+     * Check the Cauldrons in loaded Chunks against the World every HEAT_RECHECK minutes, in case we missed a change.
+     * <p>Runs whether particles are enabled or not, Cauldrons that were already checked recently are skipped.
+     */
+    public static void recheckWorld() {
+        if (Barrel.agingClock % HEAT_RECHECK != 0 || bcauldrons.isEmpty()) {
+            return;
+        }
+        List<BCauldron> due = new ArrayList<>();
         for (BCauldron cauldron : bcauldrons.values()) {
-            if (particleRandom.nextFloat() < chance) {
-                BreweryPlugin.getScheduler().runTask(cauldron.block.getLocation(), cauldron::cookEffect);
+            if (Barrel.agingClock - cauldron.lastChecked >= HEAT_RECHECK) {
+                due.add(cauldron);
             }
         }
+        RegionBatchExecutor.execute(due, BCauldron::getBlock, cauldron -> {
+            if (bcauldrons.get(cauldron.blockKey) == cauldron && BUtil.isChunkLoaded(cauldron.block) && !cauldron.checkWorld()) {
+                remove(cauldron.block);
+            }
+        });
     }
 
     public static void clickCauldron(PlayerInteractEvent event) {
@@ -524,17 +644,12 @@ public class BCauldron {
     }
 
     /**
-     * Recalculate the Cauldron Particle Recipe
+     * Recalculate the Cauldron Particle Recipe, the next time the particle color is needed
      */
     public static void reload() {
         for (BCauldron cauldron : bcauldrons.values()) {
             cauldron.particleRecipe = null;
-            cauldron.particleColor = null;
-            if (config.isEnableCauldronParticles()) {
-                if (BUtil.isChunkLoaded(cauldron.block) && MaterialUtil.isCauldronHeatSource(cauldron.block.getRelative(BlockFace.DOWN))) {
-                    cauldron.getParticleColor();
-                }
-            }
+            cauldron.particleColors = null;
         }
     }
 
@@ -542,28 +657,65 @@ public class BCauldron {
      * reset to normal cauldron
      */
     public static boolean remove(Block block) {
-        return bcauldrons.remove(block) != null;
+        BCauldron cauldron = bcauldrons.remove(BlockKey.of(block));
+        if (cauldron == null) {
+            return false;
+        }
+        DataManager.cauldronChanges.markRemoved(cauldron, cauldron.id);
+        return true;
+    }
+
+    /**
+     * Cauldrons may have been changed while their Chunk was not loaded, or by a world editor without us noticing.
+     * Check them against the World on the next tick, not while the Chunk is loading.
+     */
+    public static void onChunkLoad(Chunk chunk) {
+        List<BCauldron> inChunk = new ArrayList<>(bcauldrons.getInChunk(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ()));
+        if (inChunk.isEmpty()) {
+            return;
+        }
+        BreweryPlugin.getScheduler().runTask(inChunk.get(0).block.getLocation(), () -> {
+            for (BCauldron cauldron : inChunk) {
+                if (bcauldrons.get(cauldron.blockKey) == cauldron && BUtil.isChunkLoaded(cauldron.block) && !cauldron.checkWorld()) {
+                    remove(cauldron.block);
+                }
+            }
+        });
+    }
+
+    /**
+     * Check all Cauldrons in loaded Chunks against the World, as we don't get a ChunkLoadEvent for them
+     */
+    public static void checkLoadedChunks() {
+        RegionBatchExecutor.execute(new ArrayList<>(bcauldrons.values()), BCauldron::getBlock, cauldron -> {
+            if (BUtil.isChunkLoaded(cauldron.block) && !cauldron.checkWorld()) {
+                remove(cauldron.block);
+            }
+        });
     }
 
     /**
      * Are any Cauldrons in that World
      */
     public static boolean hasDataInWorld(World world) {
-        return bcauldrons.keySet().stream().anyMatch(block -> block.getWorld().equals(world));
+        return bcauldrons.hasWorld(world.getUID());
     }
 
     // unloads cauldrons that are in a unloading world
     // as they were written to file just before, this is safe to do
     public static void onUnload(World world) {
-        bcauldrons.keySet().removeIf(block -> block.getWorld().equals(world));
+        bcauldrons.removeWorld(world.getUID());
     }
 
     /**
      * Unload all Cauldrons that have are in a unloaded World
      */
     public static void unloadWorlds() {
-        List<World> worlds = BreweryPlugin.getInstance().getServer().getWorlds();
-        bcauldrons.keySet().removeIf(block -> !worlds.contains(block.getWorld()));
+        for (UUID world : new ArrayList<>(bcauldrons.getWorlds())) {
+            if (Bukkit.getWorld(world) == null) {
+                bcauldrons.removeWorld(world);
+            }
+        }
     }
 
     public static void save(ConfigurationSection config, ConfigurationSection oldData) {
@@ -582,8 +734,8 @@ public class BCauldron {
                 }
 
                 config.set(prefix + ".block", cauldron.block.getX() + "/" + cauldron.block.getY() + "/" + cauldron.block.getZ());
-                if (cauldron.state != 0) {
-                    config.set(prefix + ".state", cauldron.state);
+                if (cauldron.getState() != 0) {
+                    config.set(prefix + ".state", cauldron.getState());
                 }
                 config.set(prefix + ".ingredients", cauldron.ingredients.serializeIngredients());
                 id++;
@@ -21,9 +21,10 @@
 package com.dre.brewery;
 
 import com.dre.brewery.lore.BrewLore;
+import com.dre.brewery.utility.BlockKey;
 import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MinecraftVersion;
-import com.github.Anon8281.universalScheduler.UniversalRunnable;
+import com.dre.brewery.utility.RegionBatchExecutor;
 import com.github.Anon8281.universalScheduler.scheduling.tasks.MyScheduledTask;
 import io.papermc.lib.PaperLib;
 import org.bukkit.Material;
@@ -51,25 +52,58 @@ public class BDistiller {
     private static final MinecraftVersion VERSION = BreweryPlugin.getMCVersion();
 
     private static final int DISTILLTIME = 400;
-    private static final Map<Block, BDistiller> trackedDistillers = new ConcurrentHashMap<>();
+    private static final Map<BlockKey, BDistiller> trackedDistillers = new ConcurrentHashMap<>();
+    private static MyScheduledTask ticker; // Ticks all tracked Distillers, batched per region
 
-    private MyScheduledTask task;
+    private boolean cancelled = false;
+    private int delay = 2; // Ticks to wait after starting
+    private Brew[] contents = null;
     private int runTime = -1;
     private int brewTime = -1;
     private final Block standBlock;
+    private final BlockKey standKey;
     private final int fuel;
 
     public BDistiller(Block standBlock, int fuel) {
         this.standBlock = standBlock;
+        this.standKey = BlockKey.of(standBlock);
         this.fuel = fuel;
     }
 
     public void cancelDistill() {
-        task.cancel(); // cancel prior
+        cancelled = true; // cancel prior
     }
 
     public void start() {
-        task = new DistillRunnable().runTaskTimer(BreweryPlugin.getInstance(), 2L, 1L);
+        startTicker();
+    }
+
+    private static synchronized void startTicker() {
+        if (ticker == null) {
+            ticker = BreweryPlugin.getScheduler().runTaskTimer(BDistiller::tickAll, 1L, 1L);
+        }
+    }
+
+    private static void tickAll() {
+        if (trackedDistillers.isEmpty()) {
+            stopTicker();
+            return;
+        }
+        RegionBatchExecutor.execute(trackedDistillers.values(), distiller -> distiller.standBlock, BDistiller::tick);
+    }
+
+    // Stop the ticker while nothing is distilling, the next start() starts it again
+    private static synchronized void stopTicker() {
+        if (ticker != null && trackedDistillers.isEmpty()) {
+            ticker.cancel();
+            ticker = null;
+        }
+    }
+
+    // Stop distilling and stop tracking the brewer
+    private void stop() {
+        cancelled = true;
+        trackedDistillers.remove(standKey, this);
     }
 
     public static void distillerClick(InventoryClickEvent event) {
@@ -77,7 +111,7 @@ public class BDistiller {
         final Block standBlock = standInv.getBlock();
 
         // If we were already tracking the brewer, cancel any ongoing event due to the click.
-        BDistiller distiller = trackedDistillers.get(standBlock);
+        BDistiller distiller = trackedDistillers.get(BlockKey.of(standBlock));
         if (distiller != null) {
             distiller.cancelDistill();
             standInv.setBrewingTime(0); // Fixes brewing continuing without fuel for normal potions
@@ -87,12 +121,12 @@ public class BDistiller {
 
         // Now check if we should bother to track it.
         distiller = new BDistiller(standBlock, fuel);
-        trackedDistillers.put(standBlock, distiller);
+        trackedDistillers.put(distiller.standKey, distiller);
         distiller.start();
     }
 
     public static boolean isTrackingDistiller(Block block) {
-        return trackedDistillers.containsKey(block);
+        return trackedDistillers.containsKey(BlockKey.of(block));
     }
 
     // Returns a Brew or null for every Slot in the BrewerInventory
@@ -191,85 +225,83 @@ public class BDistiller {
         }
     }
 
-    public class DistillRunnable extends UniversalRunnable {
-        private Brew[] contents = null;
-
-        @Override
-        public void run() {
-            BreweryPlugin.getScheduler().runTask(standBlock.getLocation(), () -> {
-                if (standBlock.getType() != Material.BREWING_STAND) {
-                    this.cancel();
-                    trackedDistillers.remove(standBlock);
-                    Logging.debugLog("The block was replaced; not a brewing stand.");
-                    return;
-                }
+    // Runs every tick on the thread owning the brewer
+    private void tick() {
+        if (cancelled) {
+            return;
+        }
+        if (delay > 0) {
+            delay--;
+            return;
+        }
+        if (standBlock.getType() != Material.BREWING_STAND) {
+            stop();
+            Logging.debugLog("The block was replaced; not a brewing stand.");
+            return;
+        }
 
-                BrewingStand stand = (BrewingStand) PaperLib.getBlockState(standBlock, true).getState();
-                if (brewTime == -1 && !prepareForDistillables(stand)) { // check at the beginning for distillables
-                    return;
-                }
+        BrewingStand stand = (BrewingStand) PaperLib.getBlockState(standBlock, true).getState();
+        if (brewTime == -1 && !prepareForDistillables(stand)) { // check at the beginning for distillables
+            return;
+        }
 
-                brewTime--; // count down.
-                stand.setBrewingTime((int) ((float) brewTime / ((float) runTime / (float) DISTILLTIME)) + 1);
+        brewTime--; // count down.
+        stand.setBrewingTime((int) ((float) brewTime / ((float) runTime / (float) DISTILLTIME)) + 1);
 
-                if (brewTime > 1) {
-                    stand.update();
-                    return;
-                }
+        if (brewTime > 1) {
+            stand.update();
+            return;
+        }
 
-                contents = getDistillContents(stand.getInventory()); // Get the contents again at the end just in case
-                stand.setBrewingTime(0);
-                stand.update();
-                if (!runDistill(stand.getInventory(), contents)) {
-                    this.cancel();
-                    trackedDistillers.remove(standBlock);
-                    Logging.debugLog("All done distilling");
-                } else {
-                    brewTime = -1; // go again.
-                    Logging.debugLog("Can distill more! Continuing.");
-                }
-            });
+        contents = getDistillContents(stand.getInventory()); // Get the contents again at the end just in case
+        stand.setBrewingTime(0);
+        stand.update();
+        if (!runDistill(stand.getInventory(), contents)) {
+            stop();
+            Logging.debugLog("All done distilling");
+        } else {
+            brewTime = -1; // go again.
+            Logging.debugLog("Can distill more! Continuing.");
         }
+    }
 
-        private boolean prepareForDistillables(BrewingStand stand) {
-            BrewerInventory inventory = stand.getInventory();
-            if (contents == null) {
-                contents = getDistillContents(inventory);
-            } else {
-                checkContents(inventory, contents);
-            }
-            switch (hasBrew(inventory, contents)) {
-                case 1:
-                    // Custom potion but not for distilling. Stop any brewing and cancel this task
-                    if (stand.getBrewingTime() > 0) {
-                        if (VERSION.isOrLater(MinecraftVersion.V1_11)) {
-                            // The trick below doesn't work in 1.11, but we don't need it anymore
-                            // This should only happen with older Brews that have been made with the old Potion Color System
-                            // This causes standard potions to not brew in the brewing stand if put together with Brews, but the bubble animation will play
-                            stand.setBrewingTime(Short.MAX_VALUE);
-                        } else {
-                            // Brewing time is sent and stored as short
-                            // This sends a negative short value to the Client
-                            // In the client the Brewer will look like it is not doing anything
-                            stand.setBrewingTime(Short.MAX_VALUE << 1);
-                        }
-                        stand.setFuelLevel(fuel);
-                        stand.update();
+    private boolean prepareForDistillables(BrewingStand stand) {
+        BrewerInventory inventory = stand.getInventory();
+        if (contents == null) {
+            contents = getDistillContents(inventory);
+        } else {
+            checkContents(inventory, contents);
+        }
+        switch (hasBrew(inventory, contents)) {
+            case 1:
+                // Custom potion but not for distilling. Stop any brewing and cancel this task
+                if (stand.getBrewingTime() > 0) {
+                    if (VERSION.isOrLater(MinecraftVersion.V1_11)) {
+                        // The trick below doesn't work in 1.11, but we don't need it anymore
+                        // This should only happen with older Brews that have been made with the old Potion Color System
+                        // This causes standard potions to not brew in the brewing stand if put together with Brews, but the bubble animation will play
+                        stand.setBrewingTime(Short.MAX_VALUE);
+                    } else {
+                        // Brewing time is sent and stored as short
+                        // This sends a negative short value to the Client
+                        // In the client the Brewer will look like it is not doing anything
+                        stand.setBrewingTime(Short.MAX_VALUE << 1);
                     }
-                case 0:
-                    // No custom potion, cancel and ignore
-                    this.cancel();
-                    trackedDistillers.remove(standBlock);
-                    showAlc(inventory, contents);
-                    Logging.debugLog("nothing to distill");
-                    return false;
-                default:
-                    runTime = getLongestDistillTime(contents);
-                    brewTime = runTime;
-                    Logging.debugLog("using brewtime: " + runTime);
+                    stand.setFuelLevel(fuel);
+                    stand.update();
+                }
+            case 0:
+                // No custom potion, cancel and ignore
+                stop();
+                showAlc(inventory, contents);
+                Logging.debugLog("nothing to distill");
+                return false;
+            default:
+                runTime = getLongestDistillTime(contents);
+                brewTime = runTime;
+                Logging.debugLog("using brewtime: " + runTime);
 
-            }
-            return true;
         }
+        return true;
     }
 }
@@ -33,6 +33,8 @@ import com.dre.brewery.recipe.DebuggableItem;
 import com.dre.brewery.recipe.Ingredient;
 import com.dre.brewery.recipe.ItemLoader;
 import com.dre.brewery.recipe.PotionColor;
+import com.dre.brewery.recipe.RecipeCache;
+import com.dre.brewery.recipe.RecipeIndex;
 import com.dre.brewery.recipe.RecipeItem;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.Logging;
@@ -151,6 +153,26 @@ public class BIngredients {
         ingredients.add(ingredient);
     }
 
+    /**
+     * Cook the ingredients into a Brew, without creating an item for it
+     *
+     * @param state The time cooked in minutes
+     */
+    public Brew cookBrew(int state) {
+        // cookedTime is always time in minutes, state may differ with number of ticks
+        cookedTime = state;
+        BRecipe cookRecipe = getCookRecipe();
+        if (cookRecipe != null) {
+            // Potion is best with cooking only
+            int quality = (int) Math.round((getIngredientQuality(cookRecipe) + getCookingQuality(cookRecipe, false)) / 2.0);
+            int alc = Math.round(cookRecipe.getAlcohol() * ((float) quality / 10.0f));
+            Logging.debugLog("cooked potion has Quality: " + quality + ", Alc: " + alc);
+            return new Brew(quality, alc, cookRecipe, this);
+        }
+        // new base potion
+        return new Brew(this);
+    }
+
     /**
      * returns an Potion item with cooked ingredients
      */
@@ -160,20 +182,14 @@ public class BIngredients {
         PotionMeta potionMeta = (PotionMeta) potion.getItemMeta();
         assert potionMeta != null;
 
-        // cookedTime is always time in minutes, state may differ with number of ticks
-        cookedTime = state;
         String cookedName = null;
-        BRecipe cookRecipe = getCookRecipe();
-        Brew brew;
+        Brew brew = cookBrew(state);
+        BRecipe cookRecipe = brew.getCurrentRecipe();
 
         //int uid = Brew.generateUID();
 
         if (cookRecipe != null) {
-            // Potion is best with cooking only
-            int quality = (int) Math.round((getIngredientQuality(cookRecipe) + getCookingQuality(cookRecipe, false)) / 2.0);
-            int alc = Math.round(cookRecipe.getAlcohol() * ((float) quality / 10.0f));
-            Logging.debugLog("cooked potion has Quality: " + quality + ", Alc: " + alc);
-            brew = new Brew(quality, alc, cookRecipe, this);
+            int quality = brew.getQuality();
             BrewLore lore = new BrewLore(brew, potionMeta);
             lore.updateQualityStars(false);
             lore.updateCustomLore();
@@ -192,8 +208,6 @@ public class BIngredients {
             }
         } else {
             // new base potion
-            brew = new Brew(this);
-
             if (state <= 0) {
                 cookedName = lang.getEntry("Brew_ThickBrew");
                 PotionColor.BLUE.colorBrew(potionMeta, potion, false);
@@ -261,6 +275,10 @@ public class BIngredients {
      * best recipe for current state of potion, STILL not always returns the correct one...
      */
     public BRecipe getBestRecipe(BarrelWoodType wood, float time, boolean distilled) {
+        return RecipeCache.getBestRecipe(this, wood, time, distilled, () -> findBestRecipe(wood, time, distilled));
+    }
+
+    private BRecipe findBestRecipe(BarrelWoodType wood, float time, boolean distilled) {
         float quality = 0;
         int ingredientQuality;
         int cookingQuality;
@@ -268,7 +286,8 @@ public class BIngredients {
         int ageQuality;
         BRecipe bestRecipe = null;
         // FIXME: This should include BCauldronRecipes too. (Proper parent class needed!)
-        for (BRecipe recipe : BRecipe.getAllRecipes()) {
+        // Recipes missing any of their ingredients would get no quality anyway
+        for (BRecipe recipe : RecipeIndex.getCandidates(ingredients)) {
             ingredientQuality = getIngredientQuality(recipe);
             cookingQuality = getCookingQuality(recipe, distilled);
 
@@ -321,6 +340,11 @@ public class BIngredients {
      */
     @Nullable
     public BCauldronRecipe getCauldronRecipe() {
+        return RecipeCache.getCauldronRecipe(this, this::findCauldronRecipe);
+    }
+
+    @Nullable
+    private BCauldronRecipe findCauldronRecipe() {
         BCauldronRecipe best = null;
         float bestMatch = 0;
         float match;
@@ -370,58 +394,14 @@ public class BIngredients {
      * returns the quality of the ingredients conditioning given recipe, -1 if no recipe is near them
      */
     public int getIngredientQuality(BRecipe recipe) {
-        float quality = 10;
-        int count;
-        int badStuff = 0;
-        if (recipe.isMissingIngredients(ingredients)) {
-            // when ingredients are not complete
-            return -1;
-        }
-        for (Ingredient ingredient : ingredients) {
-            int amountInRecipe = recipe.amountOf(ingredient);
-            count = ingredient.getAmount();
-            if (amountInRecipe == 0) {
-                // this ingredient doesnt belong into the recipe
-                if (count > (getIngredientsCount() / 2)) {
-                    // when more than half of the ingredients dont fit into the
-                    // recipe
-                    return -1;
-                }
-                badStuff++;
-                if (badStuff < ingredients.size()) {
-                    // when there are other ingredients
-                    quality -= count * (recipe.getDifficulty() / 2.0);
-                    continue;
-                } else {
-                    // ingredients dont fit at all
-                    return -1;
-                }
-            }
-            // calculate the quality
-            quality -= ((float) Math.abs(count - amountInRecipe) / recipe.allowedCountDiff(amountInRecipe)) * 10.0;
-        }
-        if (quality >= 0) {
-            return Math.round(quality);
-        }
-        return -1;
+        return recipe.getMatcher().getIngredientQuality(ingredients);
     }
 
     /**
      * returns the quality regarding the cooking-time conditioning given Recipe
      */
     public int getCookingQuality(BRecipe recipe, boolean distilled) {
-        if (!recipe.needsDistilling() == distilled) {
-            return -1;
-        }
-        int quality = 10 - (int) Math.round(((float) Math.abs(cookedTime - recipe.getCookingTime()) / recipe.allowedTimeDiff(recipe.getCookingTime())) * 10.0);
-
-        if (quality >= 0) {
-            if (cookedTime < 1) {
-                return 0;
-            }
-            return quality;
-        }
-        return -1;
+        return recipe.getMatcher().getCookingQuality(cookedTime, distilled);
     }
 
     /**
@@ -438,46 +418,14 @@ public class BIngredients {
      * returns the quality regarding the barrel wood conditioning given Recipe
      */
     public int getWoodQuality(BRecipe recipe, BarrelWoodType wood) {
-        if (recipe.getWood().equals(BarrelWoodType.ANY)) {
-            // type of wood doesnt matter
-            return 10;
-        }
-        if (config.isNewBarrelTypeAlgorithm()) {
-            return getWoodQualityNew(recipe, wood);
-        }
-        int quality = 10 - Math.round(recipe.getWoodDiff(wood.getIndex()) * recipe.getDifficulty());
-
-        return Math.max(quality, 0);
-    }
-    // At difficulty 1, distances 0-5 have quality 10, 10, 9, 8, 7, 6
-    // At difficulty 5, distances 0-5 have quality 10, 8, 4, 1, 0, 0
-    // At difficulty 10, distances 0-5 have quality 10, 5, 0, 0, 0, 0
-    // See: https://www.desmos.com/calculator/aaoixs2qo7
-    private int getWoodQualityNew(BRecipe recipe, BarrelWoodType wood) {
-        BarrelWoodType recipeWood = recipe.getWood();
-        float baseQuality = switch (recipeWood.getDistance(wood)) {
-            case 0 -> 10.0f;
-            case 1 -> 9.0f;
-            case 2 -> 7.75f;
-            case 3 -> 6.25f;
-            case 4 -> 4.5f;
-            case 5 -> 2.5f;
-            default -> 0.0f;
-        };
-        if (baseQuality == 0.0f) {
-            return 0;
-        }
-        float quality = 10f - (10f - baseQuality) * 0.5f * recipe.getDifficulty();
-        return Math.max(Math.round(quality), 0);
+        return recipe.getMatcher().getWoodQuality(wood, config.isNewBarrelTypeAlgorithm());
     }
 
     /**
      * returns the quality regarding the ageing time conditioning given Recipe
      */
     public int getAgeQuality(BRecipe recipe, float time) {
-        int quality = 10 - Math.round(Math.abs(time - recipe.getAge()) * ((float) recipe.getDifficulty() / 2));
-
-        return Math.max(quality, 0);
+        return recipe.getMatcher().getAgeQuality(time);
     }
 
     @Override
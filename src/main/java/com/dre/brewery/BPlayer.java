@@ -29,6 +29,7 @@ import com.dre.brewery.configuration.files.Config;
 import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.lore.BrewLore;
 import com.dre.brewery.recipe.BEffect;
+import com.dre.brewery.storage.DataManager;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MinecraftVersion;
@@ -163,11 +164,15 @@ public class BPlayer {
     public static BPlayer addPlayer(OfflinePlayer player) {
         BPlayer bPlayer = new BPlayer(player.getUniqueId());
         players.put(player.getUniqueId().toString(), bPlayer);
+        bPlayer.changed();
         return bPlayer;
     }
 
     public static void remove(OfflinePlayer player) {
-        players.remove(player.getUniqueId().toString());
+        BPlayer bPlayer = players.remove(player.getUniqueId().toString());
+        if (bPlayer != null) {
+            bPlayer.removed();
+        }
     }
 
 
@@ -180,6 +185,7 @@ public class BPlayer {
             Map.Entry<String, BPlayer> entry = iterator.next();
             if (entry.getValue() == this) {
                 iterator.remove();
+                removed();
                 return;
             }
         }
@@ -228,6 +234,7 @@ public class BPlayer {
             } else {
                 bPlayer.quality += brewAlc;
             }
+            bPlayer.changed();
 
             applyEffects(getQualityEffects(quality, brewAlc), player, PlayerEffectEvent.EffectType.QUALITY);
         }
@@ -380,6 +387,7 @@ public class BPlayer {
     public void drinkCap(Player player) {
         quality = getQuality() * 100;
         drunkenness = 100;
+        changed();
         if (config.isEnableKickOnOverdrink() && !player.hasPermission("brewery.bypass.overdrink")) {
             BreweryPlugin.getScheduler().runTaskLater(() -> passOut(player), 1);
         } else {
@@ -406,6 +414,9 @@ public class BPlayer {
 
     // drain the drunkenness by amount, returns true when player has to be removed
     public boolean drain(@Nullable Player player, int amount) {
+        if (amount != 0) {
+            changed();
+        }
         if (drunkenness > 0) {
             quality -= getQuality() * amount;
         }
@@ -483,6 +494,7 @@ public class BPlayer {
     public void passOut(Player player) {
         player.kickPlayer(lang.getEntry("Player_DrunkPassOut"));
         offlineDrunk = drunkenness;
+        changed();
     }
 
 
@@ -547,10 +559,12 @@ public class BPlayer {
         }
 
         offlineDrunk = 0;
+        changed();
     }
 
     public void disconnecting() {
         offlineDrunk = drunkenness;
+        changed();
     }
 
     public void goHome(final Player player) {
@@ -863,6 +877,7 @@ public class BPlayer {
 
                 if (bplayer.drain(playerIfOnline, bplayer.getAlcRecovery())) {
                     iter.remove();
+                    bplayer.removed();
                 }
             }
         }
@@ -882,6 +897,17 @@ public class BPlayer {
     }
 
 
+    // Has to be saved on the next autosave
+    private void changed() {
+        DataManager.playerChanges.markDirty(this);
+    }
+
+    // Has to be deleted from storage on the next autosave
+    private void removed() {
+        DataManager.playerChanges.markRemoved(this, BUtil.uuidFromString(uuid));
+    }
+
+
     // #### getter/setter ####
 
 
@@ -895,6 +921,7 @@ public class BPlayer {
 
     public void setDrunkeness(int value) {
         drunkenness = value;
+        changed();
     }
 
     public void setData(int drunkenness, int quality) {
@@ -908,6 +935,7 @@ public class BPlayer {
             }
         }
         this.drunkenness = drunkenness;
+        changed();
     }
 
     public int getQuality() {
@@ -928,6 +956,7 @@ public class BPlayer {
 
     public void setQuality(int value) {
         quality = value;
+        changed();
     }
 
     // opposite of quality
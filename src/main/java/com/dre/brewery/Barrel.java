@@ -30,13 +30,19 @@ import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.integration.Hook;
 import com.dre.brewery.integration.barrel.LogBlockBarrel;
 import com.dre.brewery.lore.BrewLore;
+import com.dre.brewery.storage.DataManager;
+import com.dre.brewery.storage.serialization.BukkitSerialization;
+import com.dre.brewery.utility.BlockKey;
 import com.dre.brewery.utility.BoundingBox;
 import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MinecraftVersion;
+import com.dre.brewery.utility.RegionBatchExecutor;
 import com.github.Anon8281.universalScheduler.UniversalRunnable;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -53,11 +59,22 @@ import org.bukkit.inventory.meta.PotionMeta;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A Multi Block Barrel with Inventory
@@ -66,15 +83,29 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Setter
 public class Barrel extends BarrelBody implements InventoryHolder {
 
+    private static final Set<Barrel> registered = Collections.synchronizedSet(new LinkedHashSet<>()); // In the order they were registered
+    /**
+     * All registered Barrels, in the order they were registered.
+     * <p>Adding or removing a Barrel registers or unregisters it like registerBarrel and unregisterBarrel,
+     * and marks it for saving. The position given to add(int, Barrel) is ignored, set is not supported.
+     */
     @Getter
-    public static final List<Barrel> barrels = new ArrayList<>();
+    public static final List<Barrel> barrels = new RegisteredView();
+    private static final BarrelIndex<Barrel> index = new BarrelIndex<>(); // Barrels by Chunk for fast retrieve by Block
+    private static final Set<Barrel> loadedInventories = ConcurrentHashMap.newKeySet(); // Barrels that currently have a created Inventory
     private static final Config config = ConfigManager.getConfig(Config.class);
     private static final Lang lang = ConfigManager.getConfig(Lang.class);
-    private static int check = 0; // Which Barrel was last checked
-
-    private boolean checked; // Checked by the random BarrelCheck routine
-    private Inventory inventory;
-    private float time;
+    public static long agingClock; // Globally stored aging time in minutes. Difference between this and lastOpened on each Barrel will give the barrel age time
+
+    private Inventory inventory; // null until first accessed, the contents are kept in serializedItems until then
+    @Setter(AccessLevel.NONE)
+    private String serializedItems; // Base64 contents of a Barrel whose Inventory has not been created yet
+    @Setter(AccessLevel.NONE)
+    private long lastAccess; // The agingClock when the Inventory was last accessed
+    @Setter(AccessLevel.NONE)
+    private long lastOpened; // The agingClock when this Barrel was last opened
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private volatile boolean accessed; // The Inventory was handed out since the last save, so the contents may have changed
     private final UUID id;
 
     /**
@@ -82,7 +113,7 @@ public class Barrel extends BarrelBody implements InventoryHolder {
      */
     public Barrel(Block spigot, byte signoffset) {
         super(spigot, signoffset);
-        this.inventory = Bukkit.createInventory(this, isLarge() ? config.getBarrelInvSizeLarge() * 9 : config.getBarrelInvSizeSmall() * 9, lang.getEntry("Etc_Barrel"));
+        this.lastOpened = agingClock;
         this.id = UUID.randomUUID();
     }
 
@@ -93,7 +124,7 @@ public class Barrel extends BarrelBody implements InventoryHolder {
      */
     public Barrel(Block spigot, byte sign, BoundingBox bounds, @Nullable Map<String, Object> items, float time, UUID id) {
         super(spigot, sign, bounds);
-        this.inventory = Bukkit.createInventory(this, isLarge() ? config.getBarrelInvSizeLarge() * 9 : config.getBarrelInvSizeSmall() * 9, lang.getEntry("Etc_Barrel"));
+        createInventory();
         if (items != null) {
             for (String slot : items.keySet()) {
                 if (items.get(slot) instanceof ItemStack) {
@@ -101,47 +132,92 @@ public class Barrel extends BarrelBody implements InventoryHolder {
                 }
             }
         }
-        this.time = time;
+        this.lastOpened = lastOpenedOf(time);
         this.id = id;
     }
 
     public Barrel(Block spigot, byte sign, BoundingBox bounds, ItemStack[] items, float time, UUID id) {
         super(spigot, sign, bounds);
-        this.inventory = Bukkit.createInventory(this, isLarge() ? config.getBarrelInvSizeLarge() * 9 : config.getBarrelInvSizeSmall() * 9, lang.getEntry("Etc_Barrel"));
-        if (items != null) {
-            for (int slot = 0; slot < items.length; slot++) {
-                if (items[slot] != null) {
-                    this.inventory.setItem(slot, items[slot]);
-                }
-            }
-        }
-        this.time = time;
+        createInventory();
+        setItems(items);
+        this.lastOpened = lastOpenedOf(time);
+        this.id = id;
+    }
+
+    /**
+     * Load from File, keeping the contents serialized until the Inventory is first accessed
+     *
+     * @param serializedItems The Base64 contents as created by getSerializedItems()
+     */
+    public Barrel(Block spigot, byte sign, BoundingBox bounds, @Nullable String serializedItems, float time, UUID id) {
+        super(spigot, sign, bounds);
+        this.serializedItems = serializedItems;
+        this.lastOpened = lastOpenedOf(time);
+        this.id = id;
+    }
+
+    /**
+     * Load from File, keeping the contents serialized until the Inventory is first accessed
+     *
+     * @param serializedItems The Base64 contents as created by getSerializedItems()
+     * @param lastOpened The agingClock when this Barrel was last opened, as in getLastOpened()
+     */
+    public Barrel(Block spigot, byte sign, BoundingBox bounds, @Nullable String serializedItems, UUID id, long lastOpened) {
+        super(spigot, sign, bounds);
+        this.serializedItems = serializedItems;
+        this.lastOpened = lastOpened;
         this.id = id;
     }
 
     public static void onUpdate() {
-        for (Barrel barrel : barrels) {
-            // A Minecraft day is 20 min, so add 1/20 to the time every minute
-            if (barrel != null) {
-                barrel.time += (float) (1.0 / config.getAgingYearDuration());
+        // Barrels compute their age from this when they are opened
+        agingClock++;
+        unloadIdleInventories();
+    }
+
+    /**
+     * Mark all Barrels that currently have their Inventory open, or handed it out since the last save, as changed,
+     * as their contents may have changed at any time
+     */
+    public static void markChangedInventories() {
+        for (Barrel barrel : loadedInventories) {
+            Inventory inventory = barrel.inventory;
+            if (barrel.accessed || (inventory != null && !inventory.getViewers().isEmpty())) {
+                barrel.accessed = false;
+                barrel.markDirty();
             }
         }
-        int numBarrels = barrels.size();
-        if (check == 0 && numBarrels > 0) {
-            Barrel random = barrels.get((int) Math.floor(Math.random() * numBarrels));
-            if (random != null) {
-                // You have been selected for a random search
-                // We want to check at least one barrel every time
-                random.checked = false;
-            }
-            if (numBarrels > 50) {
-                Barrel randomInTheBack = barrels.get(numBarrels - 1 - (int) (Math.random() * (numBarrels >>> 2)));
-                if (randomInTheBack != null) {
-                    // Prioritize checking one of the less recently used barrels as well
-                    randomInTheBack.checked = false;
+    }
+
+    /**
+     * If this Barrel is currently registered, i.e. has not been removed or unloaded since
+     */
+    public static boolean isRegistered(Barrel barrel) {
+        return index.contains(barrel);
+    }
+
+    /**
+     * Queue all Barrels in this freshly loaded Chunk to be checked by the BarrelCheck
+     */
+    public static void onChunkLoad(Chunk chunk) {
+        List<Barrel> chunkBarrels = index.getInChunk(chunk.getWorld().getUID(), chunk.getX(), chunk.getZ());
+        // Chunks loaded by a snapshot check, which checks these Barrels off the main thread already
+        chunkBarrels.removeIf(BarrelSnapshotCheck::isChecking);
+        BarrelCheck.queue(chunkBarrels);
+    }
+
+    /**
+     * Queue all Barrels in currently loaded Chunks to be checked by the BarrelCheck, i.e. after loading the Barrels
+     */
+    public static void checkLoadedChunks() {
+        for (World world : Bukkit.getWorlds()) {
+            UUID worldId = world.getUID();
+            for (long chunk : index.getChunks(worldId)) {
+                int x = BlockKey.chunkX(chunk), z = BlockKey.chunkZ(chunk);
+                if (world.isChunkLoaded(x, z)) {
+                    BarrelCheck.queue(index.getInChunk(worldId, x, z));
                 }
             }
-            new BarrelCheck().runTaskTimer(BreweryPlugin.getInstance(), 1, 1);
         }
     }
 
@@ -175,37 +251,63 @@ public class Barrel extends BarrelBody implements InventoryHolder {
         return !destroyEvent.isCancelled();
     }
 
+    /**
+     * The time in years (agingYearDuration minutes) since this barrel was last opened
+     */
+    public float getTime() {
+        return (float) (agingClock - lastOpened) / config.getAgingYearDuration();
+    }
+
+    /**
+     * Set the time in years since this barrel was last opened
+     */
+    public void setTime(float time) {
+        this.lastOpened = lastOpenedOf(time);
+        markDirty();
+    }
+
+    private static long lastOpenedOf(float time) {
+        return agingClock - Math.round(time * config.getAgingYearDuration());
+    }
+
+    /**
+     * This Barrel changed and has to be saved. Ignored if it is not registered, i.e. not created yet or already removed
+     */
+    public void markDirty() {
+        if (isRegistered(this)) {
+            DataManager.barrelChanges.markDirty(this);
+        }
+    }
+
     /**
      * player opens the barrel
      */
     public void open(Player player) {
-        if (inventory == null) {
-            this.inventory = Bukkit.createInventory(this, isLarge() ? config.getBarrelInvSizeLarge() * 9 : config.getBarrelInvSizeSmall() * 9, lang.getEntry("Etc_Barrel"));
-        } else {
-            if (time > 0) {
-                // if nobody has the inventory opened
-                if (inventory.getViewers().isEmpty()) {
-                    // if inventory contains potions
-                    if (inventory.contains(Material.POTION)) {
-                        BarrelWoodType wood = this.getWood();
-                        long loadTime = System.nanoTime();
-                        for (ItemStack item : inventory.getContents()) {
-                            if (item != null) {
-                                Brew brew = Brew.get(item);
-                                if (brew != null) {
-                                    brew.age(item, time, wood);
-                                }
+        float time = getTime();
+        Inventory inventory = getInventory();
+        if (time > 0) {
+            // if nobody has the inventory opened
+            if (inventory.getViewers().isEmpty()) {
+                // if inventory contains potions
+                if (inventory.contains(Material.POTION)) {
+                    BarrelWoodType wood = this.getWood();
+                    long loadTime = System.nanoTime();
+                    for (ItemStack item : inventory.getContents()) {
+                        if (item != null) {
+                            Brew brew = Brew.get(item);
+                            if (brew != null) {
+                                brew.age(item, time, wood);
                             }
                         }
-                        loadTime = System.nanoTime() - loadTime;
-                        float ftime = (float) (loadTime / 1000000.0);
-                        Logging.debugLog("opening Barrel with potions (" + ftime + "ms)");
                     }
+                    loadTime = System.nanoTime() - loadTime;
+                    float ftime = (float) (loadTime / 1000000.0);
+                    Logging.debugLog("opening Barrel with potions (" + ftime + "ms)");
                 }
             }
         }
         // reset barreltime, potions have new age
-        time = 0;
+        lastOpened = agingClock;
 
         if (Hook.LOGBLOCK.isEnabled()) {
             try {
@@ -242,12 +344,96 @@ public class Barrel extends BarrelBody implements InventoryHolder {
         }
     }
 
+    /**
+     * Get the Inventory of this Barrel, creating it from the serialized contents if not done yet
+     */
     @Override
     @NotNull
     public Inventory getInventory() {
+        if (inventory == null) {
+            createInventory();
+            if (serializedItems != null) {
+                setItems(BukkitSerialization.itemStackArrayFromBase64(serializedItems));
+                serializedItems = null;
+            }
+        }
+        lastAccess = agingClock;
+        // Whoever asks for the Inventory may change it, checked on the next save
+        accessed = true;
         return inventory;
     }
 
+    public void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+        this.serializedItems = null;
+        loadedInventories.add(this);
+    }
+
+    /**
+     * Whether the Inventory has been created, or the contents are still only serialized
+     */
+    public boolean isInventoryLoaded() {
+        return inventory != null;
+    }
+
+    /**
+     * Get the Base64 serialized contents of this Barrel, without creating the Inventory if not needed
+     */
+    @Nullable
+    public String getSerializedItems() {
+        if (inventory == null) {
+            return serializedItems;
+        }
+        return BukkitSerialization.itemStackArrayToBase64(inventory.getContents());
+    }
+
+    private void createInventory() {
+        this.inventory = Bukkit.createInventory(this, isLarge() ? config.getBarrelInvSizeLarge() * 9 : config.getBarrelInvSizeSmall() * 9, lang.getEntry("Etc_Barrel"));
+        this.lastAccess = agingClock;
+        loadedInventories.add(this);
+    }
+
+    private void setItems(@Nullable ItemStack[] items) {
+        if (items != null) {
+            for (int slot = 0; slot < items.length; slot++) {
+                if (items[slot] != null) {
+                    this.inventory.setItem(slot, items[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Serialize the Inventories of Barrels that nobody accessed for a while, they are recreated on next access
+     */
+    private static void unloadIdleInventories() {
+        int idleMinutes = config.getBarrelInvUnloadMinutes();
+        if (idleMinutes <= 0) {
+            return;
+        }
+        List<Barrel> idle = new ArrayList<>();
+        for (Barrel barrel : loadedInventories) {
+            if (agingClock - barrel.lastAccess >= idleMinutes) {
+                idle.add(barrel);
+            }
+        }
+        RegionBatchExecutor.execute(idle, Barrel::getSpigot, barrel -> barrel.unloadInventory(idleMinutes));
+    }
+
+    private void unloadInventory(int idleMinutes) {
+        if (inventory == null || !inventory.getViewers().isEmpty() || agingClock - lastAccess < idleMinutes) {
+            return;
+        }
+        serializedItems = BukkitSerialization.itemStackArrayToBase64(inventory.getContents());
+        inventory = null;
+        loadedInventories.remove(this);
+        if (accessed) {
+            // Not seen by markChangedInventories anymore
+            accessed = false;
+            markDirty();
+        }
+    }
+
 
     /**
      * @deprecated just use hasBlock
@@ -294,19 +480,14 @@ public class Barrel extends BarrelBody implements InventoryHolder {
             signoffset = (byte) (sign.getY() - spigot.getY());
         }
 
-        int i = 0;
-        for (Barrel barrel : barrels) {
-            if (barrel != null && barrel.isSignOfBarrel(signoffset)) {
-                if (barrel.spigot.equals(spigot)) {
-                    if (barrel.getSignoffset() == 0 && signoffset != 0) {
-                        // Barrel has no signOffset even though we clicked a sign, may be old
-                        barrel.setSignoffset(signoffset);
-                    }
-                    moveMRU(i);
-                    return barrel;
-                }
+        Barrel barrel = index.getBySpigot(spigot);
+        if (barrel != null && barrel.isSignOfBarrel(signoffset)) {
+            if (barrel.getSignoffset() == 0 && signoffset != 0) {
+                // Barrel has no signOffset even though we clicked a sign, may be old
+                barrel.setSignoffset(signoffset);
+                barrel.markDirty();
             }
-            i++;
+            return barrel;
         }
         return null;
     }
@@ -317,27 +498,77 @@ public class Barrel extends BarrelBody implements InventoryHolder {
     @Nullable
     public static Barrel getByWood(Block wood) {
         if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, wood.getType()) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, wood.getType())) {
-            int i = 0;
-            for (Barrel barrel : barrels) {
-                if (barrel.getSpigot().getWorld().equals(wood.getWorld()) && barrel.getBounds().contains(wood)) {
-                    moveMRU(i);
-                    return barrel;
+            return index.getByBounds(wood);
+        }
+        return null;
+    }
+
+    /**
+     * Find the Barrels that any of these Blocks are part of, in one pass.
+     * <p>Each Chunk the Blocks are in is looked up only once, and Blocks that can't be part of a Barrel are skipped with a single bit test,
+     * which makes this much cheaper than get(Block) for the Block lists of explosions or pistons.
+     *
+     * @param world  The World all the Blocks are in
+     * @param blocks The Blocks to look up
+     * @return Each Block that is part of a Barrel mapped to that Barrel, in the order of the given Blocks
+     */
+    public static Map<Block, Barrel> findIntersecting(World world, Collection<Block> blocks) {
+        if (blocks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        UUID worldId = world.getUID();
+        Map<Long, List<Barrel>> chunks = new HashMap<>();
+        Map<Block, Barrel> found = new LinkedHashMap<>();
+        for (Block block : blocks) {
+            Material type = block.getType();
+            if (!BarrelAsset.isBreweryBlock(type)) {
+                continue;
+            }
+            // Signs are always in the same Chunk as their Spigot, so no Barrels in the Chunk means no Barrel for the Block
+            List<Barrel> inChunk = chunks.computeIfAbsent(BlockKey.chunkKey(block.getX() >> 4, block.getZ() >> 4),
+                key -> index.getInChunk(worldId, BlockKey.chunkX(key), BlockKey.chunkZ(key)));
+            if (inChunk.isEmpty()) {
+                continue;
+            }
+            Barrel barrel = null;
+            if (BarrelAsset.isBarrelAsset(BarrelAsset.FENCE, type) || BarrelAsset.isBarrelAsset(BarrelAsset.SIGN, type)) {
+                barrel = getBySpigot(block);
+            } else if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
+                for (Barrel candidate : inChunk) {
+                    BoundingBox bounds = candidate.getBounds();
+                    if (bounds != null && bounds.contains(block)) {
+                        barrel = candidate;
+                        break;
+                    }
                 }
-                i++;
+            }
+            if (barrel != null) {
+                found.put(block, barrel);
             }
         }
-        return null;
+        return found;
     }
 
-    // Move Barrel that was recently used more towards the front of the List
-    // Optimizes retrieve by Block over time
-    private static void moveMRU(int index) {
-        if (index > 0) {
-            // Swap entry at the index with the one next to it
-            barrels.set(index - 1, barrels.set(index, barrels.get(index - 1)));
+    /**
+     * Add a Barrel to the list of all Barrels and index it for retrieve by Block
+     */
+    public static void registerBarrel(Barrel barrel) {
+        if (registered.add(barrel)) {
+            RegisteredView.changed();
+            index.register(barrel);
         }
     }
 
+    /**
+     * Remove a Barrel from the list of all Barrels and from the Block index
+     */
+    public static void unregisterBarrel(Barrel barrel) {
+        registered.remove(barrel);
+        RegisteredView.changed();
+        index.unregister(barrel);
+        loadedInventories.remove(barrel);
+    }
+
     /**
      * creates a new Barrel out of a sign
      */
@@ -370,13 +601,15 @@ public class Barrel extends BarrelBody implements InventoryHolder {
                 BarrelCreateEvent createEvent = new BarrelCreateEvent(barrel, player);
                 BreweryPlugin.getInstance().getServer().getPluginManager().callEvent(createEvent);
                 if (!createEvent.isCancelled()) {
-                    barrels.add(0, barrel);
+                    registerBarrel(barrel);
+                    barrel.markDirty();
                     return true;
                 }
             }
         } else {
             if (barrel.getSignoffset() == 0 && signoffset != 0) {
                 barrel.setSignoffset(signoffset);
+                barrel.markDirty();
                 return true;
             }
         }
@@ -396,14 +629,21 @@ public class Barrel extends BarrelBody implements InventoryHolder {
         // Listened to by LWCBarrel (IntegrationListener)
         BreweryPlugin.getInstance().getServer().getPluginManager().callEvent(event);
 
+        ItemStack[] items = null;
         if (inventory != null) {
             List<HumanEntity> viewers = new ArrayList<>(inventory.getViewers());
             // Copy List to fix ConcModExc
             for (HumanEntity viewer : viewers) {
                 viewer.closeInventory();
             }
-            ItemStack[] items = inventory.getContents();
+            items = inventory.getContents();
             inventory.clear();
+        } else if (serializedItems != null) {
+            // Nobody accessed this Barrel since loading, no need to create an Inventory just to drop the contents
+            items = BukkitSerialization.itemStackArrayFromBase64(serializedItems);
+            serializedItems = null;
+        }
+        if (items != null) {
             if (Hook.LOGBLOCK.isEnabled() && breaker != null) {
                 try {
                     LogBlockBarrel.breakBarrel(breaker, items, spigot.getLocation());
@@ -414,7 +654,8 @@ public class Barrel extends BarrelBody implements InventoryHolder {
             if (event.willDropItems()) {
                 if (getBounds() == null) {
                     Logging.debugLog("Barrel Body is null, can't drop items: " + this.id);
-                    barrels.remove(this);
+                    unregisterBarrel(this);
+                    DataManager.barrelChanges.markRemoved(this, id);
                     return;
                 }
 
@@ -424,7 +665,7 @@ public class Barrel extends BarrelBody implements InventoryHolder {
                         Brew brew = Brew.get(item);
                         if (brew != null) {
                             // Brew before throwing
-                            brew.age(item, time, wood);
+                            brew.age(item, getTime(), wood);
                             PotionMeta meta = (PotionMeta) item.getItemMeta();
                             if (BrewLore.hasColorLore(meta)) {
                                 BrewLore lore = new BrewLore(brew, meta);
@@ -444,7 +685,26 @@ public class Barrel extends BarrelBody implements InventoryHolder {
             }
         }
 
-        barrels.remove(this);
+        // Only after unregistering, closing the Inventory or reading the Shape above mark it dirty again
+        unregisterBarrel(this);
+        DataManager.barrelChanges.markRemoved(this, id);
+    }
+
+    @Override
+    protected void boundsChanged() {
+        index.update(this);
+        markDirty();
+    }
+
+    @Override
+    protected void shapeChanged() {
+        markDirty();
+    }
+
+    @Override
+    public void destroySign() {
+        super.destroySign();
+        markDirty();
     }
 
     @Override
@@ -469,15 +729,7 @@ public class Barrel extends BarrelBody implements InventoryHolder {
      * is this a Small barrel?
      */
     public boolean isSmall() {
-        if (!MinecraftVersion.isFolia()) {
-            return BarrelAsset.isBarrelAsset(BarrelAsset.SIGN, spigot.getType());
-        }
-
-
-        AtomicBoolean type = new AtomicBoolean(false);
-        BreweryPlugin.getScheduler().runTask(spigot.getLocation(),
-            () -> type.set(BarrelAsset.isBarrelAsset(BarrelAsset.SIGN, spigot.getType())));
-        return type.get();
+        return getShape().small();
     }
 
 
@@ -492,58 +744,154 @@ public class Barrel extends BarrelBody implements InventoryHolder {
      * Are any Barrels in that World
      */
     public static boolean hasDataInWorld(World world) {
-        return barrels.stream().anyMatch(barrel -> barrel.spigot.getWorld().equals(world));
+        return index.hasWorld(world.getUID());
     }
 
     /**
      * unloads barrels that are in a unloading world
      */
     public static void onUnload(World world) {
-        barrels.removeIf(barrel -> barrel.spigot.getWorld().equals(world));
+        for (Barrel barrel : index.unregisterWorld(world.getUID())) {
+            registered.remove(barrel);
+            loadedInventories.remove(barrel);
+        }
+        RegisteredView.changed();
     }
 
     /**
      * Unload all Barrels that have a Block in a unloaded World
      */
     public static void unloadWorlds() {
-        List<World> worlds = BreweryPlugin.getInstance().getServer().getWorlds();
-        barrels.removeIf(barrel -> !worlds.contains(barrel.spigot.getWorld()));
+        for (UUID world : new ArrayList<>(index.getWorlds())) {
+            if (Bukkit.getWorld(world) == null) {
+                for (Barrel barrel : index.unregisterWorld(world)) {
+                    registered.remove(barrel);
+                    loadedInventories.remove(barrel);
+                }
+                RegisteredView.changed();
+            }
+        }
+    }
+
+    /**
+     * List view of the registered Barrels, so Barrel.barrels keeps its type and use for other plugins.
+     * <p>Reads from an array copy of the Set, made again on the first read after the registered Barrels changed.
+     * Adding and removing go to the Set, also through the Iterator.
+     */
+    private static final class RegisteredView extends AbstractList<Barrel> implements RandomAccess {
+        private static final AtomicInteger version = new AtomicInteger();
+        private static volatile Snapshot snapshot;
+
+        private static void changed() {
+            version.incrementAndGet();
+        }
+
+        private static Barrel[] current() {
+            int v = version.get();
+            Snapshot s = snapshot;
+            if (s == null || s.version != v) {
+                s = new Snapshot(v, registered.toArray(new Barrel[0]));
+                snapshot = s;
+            }
+            return s.barrels;
+        }
+
+        @Override
+        public Barrel get(int i) {
+            return current()[i];
+        }
+
+        @Override
+        public int size() {
+            return current().length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return registered.contains(o);
+        }
+
+        @Override
+        public boolean add(Barrel barrel) {
+            if (isRegistered(barrel)) {
+                return false;
+            }
+            registerBarrel(barrel);
+            barrel.markDirty();
+            return true;
+        }
+
+        @Override
+        public void add(int i, Barrel barrel) {
+            add(barrel);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Barrel barrel) || !isRegistered(barrel)) {
+                return false;
+            }
+            unregisterBarrel(barrel);
+            DataManager.barrelChanges.markRemoved(barrel, barrel.id);
+            return true;
+        }
+
+        @Override
+        public Barrel remove(int i) {
+            Barrel barrel = get(i);
+            remove(barrel);
+            return barrel;
+        }
+
+        private record Snapshot(int version, Barrel[] barrels) {
+        }
     }
 
+    /**
+     * Checks the Barrels of loaded Chunks in batches of one Chunk, spending at most TICK_BUDGET per tick.
+     * <p>This is the backup for when we don't register the barrel breaking, for example when removing it with some world editor
+     */
     public static class BarrelCheck extends UniversalRunnable {
+        private static final long TICK_BUDGET = 1_000_000; // 1ms in nanoseconds
+        private static final Queue<List<Barrel>> pending = new ConcurrentLinkedQueue<>();
+
+        public static void queue(List<Barrel> chunkBarrels) {
+            if (!chunkBarrels.isEmpty()) {
+                pending.add(chunkBarrels);
+            }
+        }
+
         @Override
         public void run() {
-            boolean repeat = true;
-            while (repeat) {
-                if (check < barrels.size()) {
-                    Barrel barrel = barrels.get(check);
-                    if (!barrel.checked) {
-                        BreweryPlugin.getScheduler().runTask(barrel.getSpigot().getLocation(), () -> {
-                            Block broken = barrel.getBrokenBlock(false);
-                            if (broken != null) {
-                                Logging.debugLog("Barrel at "
-                                    + broken.getWorld().getName() + "/" + broken.getX() + "/" + broken.getY() + "/" + broken.getZ()
-                                    + " has been destroyed unexpectedly, contents will drop");
-                                // remove the barrel if it was destroyed
-                                barrel.remove(broken, null, true);
-                            } else {
-                                // Dont check this barrel again, its enough to check it once after every restart (and when randomly chosen)
-                                // as now this is only the backup if we dont register the barrel breaking,
-                                // for example when removing it with some world editor
-                                barrel.checked = true;
-                            }
-                        });
-                        repeat = false;
-                    }
-                    check++;
+            long start = System.nanoTime();
+            List<Barrel> regionBatch = new ArrayList<>();
+            List<Barrel> batch;
+            while (System.nanoTime() - start < TICK_BUDGET && (batch = pending.poll()) != null) {
+                if (MinecraftVersion.isFolia()) {
+                    // Collect the Chunks of this tick, to hand them to their Regions all at once
+                    regionBatch.addAll(batch);
                 } else {
-                    check = 0;
-                    repeat = false;
-                    cancel();
+                    batch.forEach(BarrelCheck::check);
                 }
             }
+            // Only the Region owning the Chunk may read its Blocks
+            RegionBatchExecutor.execute(regionBatch, Barrel::getSpigot, BarrelCheck::check);
         }
 
+        private static void check(Barrel barrel) {
+            // Skip removed Barrels, and Barrels reaching into a Chunk that is not loaded (it will queue them when it loads)
+            if (!index.contains(barrel) || !barrel.isChunkLoaded()) {
+                return;
+            }
+            Block broken = barrel.getBrokenBlock(false);
+            if (broken != null) {
+                Logging.debugLog("Barrel at "
+                    + broken.getWorld().getName() + "/" + broken.getX() + "/" + broken.getY() + "/" + broken.getZ()
+                    + " has been destroyed unexpectedly, contents will drop");
+                // remove the barrel if it was destroyed
+                barrel.remove(broken, null, true);
+            }
+        }
     }
 
 }
@@ -20,9 +20,11 @@
 
 package com.dre.brewery;
 
+import com.dre.brewery.utility.MaterialUtil;
 import org.bukkit.Material;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,18 +40,27 @@ public enum BarrelAsset {
 
 
     private static final Map<BarrelAsset, Set<Material>> BARREL_ASSET_LIST_MAP = new HashMap<>();
+    // Material ordinals of everything that can be part of a Barrel, a Cauldron or a Distiller
+    private static final BitSet BREWERY_BLOCKS = new BitSet();
 
     static {
         for (BarrelAsset asset : values()) {
             BARREL_ASSET_LIST_MAP.put(asset, new HashSet<>());
         }
+        markBreweryBlock(Material.CAULDRON);
+        markBreweryBlock(MaterialUtil.WATER_CAULDRON);
+        markBreweryBlock(Material.BREWING_STAND);
     }
 
     public static void addBarrelAsset(BarrelAsset asset, Material... materials) {
         if (materials == null || materials.length == 0) {
             return;
         }
-        Collections.addAll(BARREL_ASSET_LIST_MAP.get(asset), Arrays.stream(materials).filter(Objects::nonNull).toArray(Material[]::new));
+        Material[] nonNull = Arrays.stream(materials).filter(Objects::nonNull).toArray(Material[]::new);
+        Collections.addAll(BARREL_ASSET_LIST_MAP.get(asset), nonNull);
+        for (Material material : nonNull) {
+            markBreweryBlock(material);
+        }
     }
 
     public static boolean isBarrelAsset(BarrelAsset assetType, Material material) {
@@ -58,4 +69,19 @@ public enum BarrelAsset {
         }
         return BARREL_ASSET_LIST_MAP.get(assetType).contains(material);
     }
+
+    /**
+     * Quick test if a Block of this Material can be part of anything Brewery tracks in the World:
+     * any Barrel Asset, Cauldrons or Brewing Stands.
+     * <p>A single bit test, use it to skip all other lookups for irrelevant Blocks in frequent events.
+     */
+    public static boolean isBreweryBlock(Material material) {
+        return material != null && BREWERY_BLOCKS.get(material.ordinal());
+    }
+
+    private static void markBreweryBlock(Material material) {
+        if (material != null) {
+            BREWERY_BLOCKS.set(material.ordinal());
+        }
+    }
 }
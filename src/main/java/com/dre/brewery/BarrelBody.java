@@ -21,10 +21,12 @@
 package com.dre.brewery;
 
 import com.dre.brewery.utility.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +41,14 @@ public abstract class BarrelBody {
     protected final Block spigot;
     protected final BoundingBox bounds;
     protected byte signoffset;
+    // Used while the Shape can't be read yet: the most restrictive size, no direction and any wood
+    private static final Shape UNKNOWN_SHAPE = new Shape(false, (byte) 0, BarrelWoodType.ANY);
+
+    // Size, direction and wood, taken from the Blocks whenever the structure is checked. null until then
+    @Nullable
+    protected Shape shape;
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private volatile boolean shapeQueued; // A task to read the missing Shape is scheduled
 
     public BarrelBody(Block spigot, byte signoffset) {
         this.spigot = spigot;
@@ -88,12 +98,19 @@ public abstract class BarrelBody {
      * direction of the barrel from the spigot
      */
     public static int getDirection(Block spigot) {
+        return getDirection(BlockAccess.of(spigot));
+    }
+
+    /**
+     * direction of the barrel from the spigot, reading the blocks through the given access
+     */
+    public static int getDirection(BlockAccess access) {
         int direction = 0;// 1=x+ 2=x- 3=z+ 4=z-
-        Material type = spigot.getRelative(0, 0, 1).getType();
+        Material type = access.getType(0, 0, 1);
         if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
             direction = 3;
         }
-        type = spigot.getRelative(0, 0, -1).getType();
+        type = access.getType(0, 0, -1);
         if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
             if (direction == 0) {
                 direction = 4;
@@ -101,7 +118,7 @@ public abstract class BarrelBody {
                 return 0;
             }
         }
-        type = spigot.getRelative(1, 0, 0).getType();
+        type = access.getType(1, 0, 0);
         if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
             if (direction == 0) {
                 direction = 1;
@@ -109,7 +126,7 @@ public abstract class BarrelBody {
                 return 0;
             }
         }
-        type = spigot.getRelative(-1, 0, 0).getType();
+        type = access.getType(-1, 0, 0);
         if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
             if (direction == 0) {
                 direction = 2;
@@ -124,18 +141,47 @@ public abstract class BarrelBody {
      * woodtype of the block the spigot is attached to
      */
     public BarrelWoodType getWood() {
-        Block wood;
-        switch (getDirection(spigot)) { // 1=x+ 2=x- 3=z+ 4=z-
-            case 0 -> {
-                return BarrelWoodType.ANY;
-            }
+        return getShape().wood();
+    }
 
-            case 1 -> wood = spigot.getRelative(1, 0, 0);
-            case 2 -> wood = spigot.getRelative(-1, 0, 0);
-            case 3 -> wood = spigot.getRelative(0, 0, 1);
-            default -> wood = spigot.getRelative(0, 0, -1);
+    /**
+     * Size, direction and wood of this Barrel.
+     * <p>Cached when the structure is checked, only read from the Blocks if it never was, i.e. for Barrels from old data.
+     * Off the main thread, or on Folia, the Blocks are read in a task on the thread owning them,
+     * until then this returns a large Barrel of any wood.
+     */
+    public Shape getShape() {
+        Shape shape = this.shape;
+        if (shape != null) {
+            return shape;
         }
-        return BarrelWoodType.fromMaterial(wood.getType());
+        if (!MinecraftVersion.isFolia() && Bukkit.isPrimaryThread()) {
+            readShape();
+            return this.shape;
+        }
+        if (!shapeQueued) {
+            shapeQueued = true;
+            BreweryPlugin.getScheduler().runTask(spigot.getLocation(), () -> {
+                shapeQueued = false;
+                if (this.shape == null) {
+                    readShape();
+                }
+            });
+        }
+        return UNKNOWN_SHAPE;
+    }
+
+    private void readShape() {
+        shape = Shape.read(BlockAccess.of(spigot));
+        shapeChanged();
+    }
+
+    /**
+     * The cached Shape without reading any Blocks, null if the structure was never checked
+     */
+    @Nullable
+    public Shape getCachedShape() {
+        return shape;
     }
 
     /**
@@ -156,6 +202,27 @@ public abstract class BarrelBody {
         return false;
     }
 
+    /**
+     * Returns true if the Chunks of the Spigot and all Blocks of this Barrel are loaded, without loading them
+     */
+    public boolean isChunkLoaded() {
+        if (!BUtil.isChunkLoaded(spigot)) {
+            return false;
+        }
+        if (bounds == null) {
+            return true;
+        }
+        World world = spigot.getWorld();
+        for (int x = bounds.getMinX() >> 4; x <= bounds.getMaxX() >> 4; x++) {
+            for (int z = bounds.getMinZ() >> 4; z <= bounds.getMaxZ() >> 4; z++) {
+                if (!world.isChunkLoaded(x, z)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns true if the Offset of the clicked Sign matches the Barrel.
      * <p>This prevents adding another sign to the barrel and clicking that.
@@ -202,6 +269,18 @@ public abstract class BarrelBody {
 
     public abstract void remove(@Nullable Block broken, @Nullable Player breaker, boolean dropItems);
 
+    /**
+     * Called after the Bounds have been resized, so the Body can be re-registered wherever it is indexed.
+     */
+    protected void boundsChanged() {
+    }
+
+    /**
+     * Called after the cached Shape changed
+     */
+    protected void shapeChanged() {
+    }
+
     /**
      * Regenerate the Barrel Bounds.
      *
@@ -241,8 +320,54 @@ public abstract class BarrelBody {
 		}
 	}
 
+    /**
+     * returns null if Barrel is correctly placed; the block that is missing when not.
+     * <p>Reads the blocks through the given access, so this can run off the main thread on ChunkSnapshots.
+     * The correct Bounds are written into target instead of this Barrel's Bounds.
+     *
+     * @throws IllegalStateException if the access can't provide a needed block
+     */
+    public Block getBrokenBlock(BlockAccess access, BoundingBox target) {
+        if (BarrelAsset.isBarrelAsset(BarrelAsset.SIGN, access.getType(0, 0, 0))) {
+            return checkSBarrel(access, target);
+        } else {
+            return checkLBarrel(access, target);
+        }
+    }
+
+    /**
+     * Resize the Bounds to the given ones, i.e. after they have been regenerated from a ChunkSnapshot
+     */
+    public void resizeBounds(BoundingBox newBounds) {
+        bounds.resize(newBounds.getMinX(), newBounds.getMinY(), newBounds.getMinZ(), newBounds.getMaxX(), newBounds.getMaxY(), newBounds.getMaxZ());
+        boundsChanged();
+    }
+
+    /**
+     * Apply the Bounds and Shape found by a successful structure check, only notifying about what actually changed
+     */
+    public void applyStructure(BoundingBox newBounds, Shape newShape) {
+        if (!newShape.equals(shape)) {
+            shape = newShape;
+            shapeChanged();
+        }
+        if (!bounds.equals(newBounds)) {
+            resizeBounds(newBounds);
+        }
+    }
+
     public Block checkSBarrel() {
-        int direction = getDirection(spigot);// 1=x+ 2=x- 3=z+ 4=z-
+        BlockAccess access = BlockAccess.of(spigot);
+        BoundingBox checked = new BoundingBox(0, 0, 0, 0, 0, 0);
+        Block broken = checkSBarrel(access, checked);
+        if (broken == null) {
+            applyStructure(checked, Shape.read(access));
+        }
+        return broken;
+    }
+
+    private Block checkSBarrel(BlockAccess access, BoundingBox target) {
+        int direction = getDirection(access);// 1=x+ 2=x- 3=z+ 4=z-
         if (direction == 0) {
             return spigot;
         }
@@ -274,14 +399,13 @@ public abstract class BarrelBody {
         while (y <= 1) {
             while (x <= endX) {
                 while (z <= endZ) {
-                    Block block = spigot.getRelative(x, y, z);
-                    type = block.getType();
+                    type = access.getType(x, y, z);
 
                     if (BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
                         if (y == 0) {
                             // stairs have to be upside down
-                            if (!MaterialUtil.areStairsInverted(block)) {
-                                return block;
+                            if (!access.areStairsInverted(x, y, z)) {
+                                return spigot.getRelative(x, y, z);
                             }
                         }
                         z++;
@@ -296,7 +420,7 @@ public abstract class BarrelBody {
             x = startX;
             y++;
         }
-        bounds.resize(
+        target.resize(
             spigot.getX() + startX,
             spigot.getY(),
             spigot.getZ() + startZ,
@@ -308,7 +432,17 @@ public abstract class BarrelBody {
     }
 
     public Block checkLBarrel() {
-        int direction = getDirection(spigot);// 1=x+ 2=x- 3=z+ 4=z-
+        BlockAccess access = BlockAccess.of(spigot);
+        BoundingBox checked = new BoundingBox(0, 0, 0, 0, 0, 0);
+        Block broken = checkLBarrel(access, checked);
+        if (broken == null) {
+            applyStructure(checked, Shape.read(access));
+        }
+        return broken;
+    }
+
+    private Block checkLBarrel(BlockAccess access, BoundingBox target) {
+        int direction = getDirection(access);// 1=x+ 2=x- 3=z+ 4=z-
         if (direction == 0) {
             return spigot;
         }
@@ -345,8 +479,6 @@ public abstract class BarrelBody {
         while (y <= 2) {
             while (x <= endX) {
                 while (z <= endZ) {
-                    Block block = spigot.getRelative(x, y, z);
-                    type = block.getType();
                     if (direction == 1 || direction == 2) {
                         if (y == 1 && z == 0) {
                             z++;
@@ -358,10 +490,11 @@ public abstract class BarrelBody {
                             continue;
                         }
                     }
+                    type = access.getType(x, y, z);
                     if (BarrelAsset.isBarrelAsset(BarrelAsset.PLANKS, type) || BarrelAsset.isBarrelAsset(BarrelAsset.STAIRS, type)) {
                         z++;
                     } else {
-                        return block;
+                        return spigot.getRelative(x, y, z);
                     }
                 }
                 z = startZ;
@@ -372,7 +505,7 @@ public abstract class BarrelBody {
             y++;
         }
 
-        bounds.resize(
+        target.resize(
             spigot.getX() + startX,
             spigot.getY(),
             spigot.getZ() + startZ,
@@ -382,4 +515,58 @@ public abstract class BarrelBody {
         );
         return null;
     }
+
+    /**
+     * The shape of a Barrel that doesn't change as long as its structure is intact
+     *
+     * @param small     If the Spigot is a Sign, i.e. the Barrel is small
+     * @param direction Direction of the Barrel from the Spigot, 1=x+ 2=x- 3=z+ 4=z-, 0 if not clear
+     * @param wood      Wood type of the Block the Spigot is attached to
+     */
+    public record Shape(boolean small, byte direction, BarrelWoodType wood) {
+
+        public static Shape read(BlockAccess access) {
+            boolean small = BarrelAsset.isBarrelAsset(BarrelAsset.SIGN, access.getType(0, 0, 0));
+            int direction = getDirection(access);
+            Material wood;
+            switch (direction) {
+                case 0 -> {
+                    return new Shape(small, (byte) 0, BarrelWoodType.ANY);
+                }
+
+                case 1 -> wood = access.getType(1, 0, 0);
+                case 2 -> wood = access.getType(-1, 0, 0);
+                case 3 -> wood = access.getType(0, 0, 1);
+                default -> wood = access.getType(0, 0, -1);
+            }
+            return new Shape(small, (byte) direction, BarrelWoodType.fromMaterial(wood));
+        }
+    }
+
+    /**
+     * Read access to the Blocks around a Spigot, in coordinates relative to it
+     */
+    public interface BlockAccess {
+
+        Material getType(int x, int y, int z);
+
+        boolean areStairsInverted(int x, int y, int z);
+
+        /**
+         * Access the live Blocks of the World, needs to run on the thread owning the Blocks
+         */
+        static BlockAccess of(Block spigot) {
+            return new BlockAccess() {
+                @Override
+                public Material getType(int x, int y, int z) {
+                    return spigot.getRelative(x, y, z).getType();
+                }
+
+                @Override
+                public boolean areStairsInverted(int x, int y, int z) {
+                    return MaterialUtil.areStairsInverted(spigot.getRelative(x, y, z));
+                }
+            };
+        }
+    }
 }
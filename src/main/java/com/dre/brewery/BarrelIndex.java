@@ -0,0 +1,265 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery;
+
+import com.dre.brewery.utility.BlockKey;
+import com.dre.brewery.utility.BoundingBox;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Spatial Index of Barrel Bodies, bucketed by World and Chunk.
+ * <p>Inside each Chunk, Spigots are keyed by their Block coordinates and Bodies are kept in a small list,
+ * so retrieving a Barrel by any of its Blocks does not need to look at Barrels in other Chunks.
+ */
+public final class BarrelIndex<T extends BarrelBody> {
+
+    private final Map<UUID, Map<Long, ChunkBucket<T>>> worlds = new ConcurrentHashMap<>();
+    private final Map<T, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Add the Body to the Index, or update its position if its Bounds changed.
+     */
+    public void register(T body) {
+        Block spigot = body.getSpigot();
+        if (spigot == null || spigot.getWorld() == null) {
+            return;
+        }
+        Entry entry = new Entry(spigot.getWorld().getUID(), BlockKey.chunkKey(spigot.getX() >> 4, spigot.getZ() >> 4),
+            BlockKey.pack(spigot.getX(), spigot.getY(), spigot.getZ()), chunksOf(body.getBounds()));
+
+        Entry old = entries.put(body, entry);
+        if (old != null) {
+            unindex(body, old);
+        }
+        Map<Long, ChunkBucket<T>> chunks = worlds.computeIfAbsent(entry.world, k -> new ConcurrentHashMap<>());
+        // Added under the lock of the map, so removeIfEmpty can't drop the bucket in between
+        chunks.compute(entry.spigotChunk, (k, bucket) -> {
+            bucket = bucket != null ? bucket : new ChunkBucket<>();
+            bucket.spigots.put(entry.spigotKey, body);
+            return bucket;
+        });
+        for (long chunk : entry.bodyChunks) {
+            chunks.compute(chunk, (k, bucket) -> {
+                bucket = bucket != null ? bucket : new ChunkBucket<>();
+                bucket.bodies.add(body);
+                return bucket;
+            });
+        }
+    }
+
+    /**
+     * Update the Index after the Bounds of this Body changed. Does nothing if the Body is not indexed.
+     */
+    public void update(T body) {
+        if (entries.containsKey(body)) {
+            register(body);
+        }
+    }
+
+    public void unregister(T body) {
+        Entry entry = entries.remove(body);
+        if (entry != null) {
+            unindex(body, entry);
+        }
+    }
+
+    public boolean contains(T body) {
+        return entries.containsKey(body);
+    }
+
+    public void clear() {
+        entries.clear();
+        worlds.clear();
+    }
+
+    /**
+     * If any Bodies are indexed in this World
+     */
+    public boolean hasWorld(UUID world) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.get(world);
+        return chunks != null && !chunks.isEmpty();
+    }
+
+    /**
+     * Remove all Bodies in this World from the Index at once
+     *
+     * @return The removed Bodies
+     */
+    public Set<T> unregisterWorld(UUID world) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.remove(world);
+        if (chunks == null) {
+            return Collections.emptySet();
+        }
+        Set<T> removed = new HashSet<>();
+        for (ChunkBucket<T> bucket : chunks.values()) {
+            removed.addAll(bucket.spigots.values());
+            removed.addAll(bucket.bodies);
+        }
+        for (T body : removed) {
+            Entry entry = entries.get(body);
+            if (entry != null && entry.world.equals(world)) {
+                entries.remove(body, entry);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * The Worlds that currently have indexed Bodies
+     */
+    public Set<UUID> getWorlds() {
+        return Collections.unmodifiableSet(worlds.keySet());
+    }
+
+    /**
+     * Get the Body that has its Spigot at this Block
+     */
+    @Nullable
+    public T getBySpigot(Block spigot) {
+        ChunkBucket<T> bucket = getBucket(spigot);
+        if (bucket == null) {
+            return null;
+        }
+        return bucket.spigots.get(BlockKey.pack(spigot.getX(), spigot.getY(), spigot.getZ()));
+    }
+
+    /**
+     * Get the Body whose Bounds contain this Block
+     */
+    @Nullable
+    public T getByBounds(Block block) {
+        ChunkBucket<T> bucket = getBucket(block);
+        if (bucket == null) {
+            return null;
+        }
+        int x = block.getX(), y = block.getY(), z = block.getZ();
+        for (T body : bucket.bodies) {
+            BoundingBox bounds = body.getBounds();
+            if (bounds != null && bounds.contains(x, y, z)) {
+                return body;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get all Bodies that have their Spigot or part of their Bounds in this Chunk
+     */
+    public List<T> getInChunk(UUID world, int chunkX, int chunkZ) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.get(world);
+        if (chunks == null) {
+            return Collections.emptyList();
+        }
+        ChunkBucket<T> bucket = chunks.get(BlockKey.chunkKey(chunkX, chunkZ));
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        Set<T> bodies = new LinkedHashSet<>(bucket.bodies);
+        bodies.addAll(bucket.spigots.values());
+        return new ArrayList<>(bodies);
+    }
+
+    /**
+     * Get the keys of all Chunks in this World that have Bodies in them
+     */
+    public Set<Long> getChunks(UUID world) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.get(world);
+        if (chunks == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(chunks.keySet());
+    }
+
+    @Nullable
+    private ChunkBucket<T> getBucket(Block block) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.get(block.getWorld().getUID());
+        if (chunks == null) {
+            return null;
+        }
+        return chunks.get(BlockKey.chunkKey(block.getX() >> 4, block.getZ() >> 4));
+    }
+
+    private void unindex(T body, Entry entry) {
+        Map<Long, ChunkBucket<T>> chunks = worlds.get(entry.world);
+        if (chunks == null) {
+            return;
+        }
+        ChunkBucket<T> bucket = chunks.get(entry.spigotChunk);
+        if (bucket != null) {
+            bucket.spigots.remove(entry.spigotKey, body);
+            removeIfEmpty(chunks, entry.spigotChunk);
+        }
+        for (long chunk : entry.bodyChunks) {
+            bucket = chunks.get(chunk);
+            if (bucket != null) {
+                bucket.bodies.remove(body);
+                removeIfEmpty(chunks, chunk);
+            }
+        }
+    }
+
+    private static <T extends BarrelBody> void removeIfEmpty(Map<Long, ChunkBucket<T>> chunks, long chunk) {
+        chunks.computeIfPresent(chunk, (k, bucket) -> bucket.isEmpty() ? null : bucket);
+    }
+
+    /**
+     * All Chunks that the Bounds overlap. Empty if the Bounds are missing or corrupt.
+     */
+    private static long[] chunksOf(@Nullable BoundingBox bounds) {
+        if (bounds == null || bounds.isBad()) {
+            return new long[0];
+        }
+        int minX = bounds.getMinX() >> 4, maxX = bounds.getMaxX() >> 4;
+        int minZ = bounds.getMinZ() >> 4, maxZ = bounds.getMaxZ() >> 4;
+        long[] chunks = new long[(maxX - minX + 1) * (maxZ - minZ + 1)];
+        int i = 0;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                chunks[i++] = BlockKey.chunkKey(x, z);
+            }
+        }
+        return chunks;
+    }
+
+    private static final class ChunkBucket<T> {
+        private final Map<Long, T> spigots = new ConcurrentHashMap<>(4);
+        private final List<T> bodies = new CopyOnWriteArrayList<>();
+
+        private boolean isEmpty() {
+            return spigots.isEmpty() && bodies.isEmpty();
+        }
+    }
+
+    private record Entry(UUID world, long spigotChunk, long spigotKey, long[] bodyChunks) {
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery;
+
+import com.dre.brewery.utility.BlockKey;
+import com.dre.brewery.utility.BoundingBox;
+import com.dre.brewery.utility.Logging;
+import com.dre.brewery.utility.MinecraftVersion;
+import io.papermc.lib.PaperLib;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.Stairs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates the structure of all Barrels in a World without blocking the server thread.
+ * <p>Chunks are loaded through PaperLib and copied into ChunkSnapshots on the thread owning them,
+ * the Barrel structures are then checked asynchronously on the snapshots.
+ * Only the results are applied back on the owning thread, where broken Barrels are confirmed against the live World before being removed.
+ */
+public final class BarrelSnapshotCheck {
+
+    // Number of Chunk groups being loaded and checked at the same time
+    private static final int WORKERS = 4;
+    // Furthest a Barrel Block can be from its Spigot
+    private static final int REACH = 4;
+    // Barrels waiting for or in a running check, counted in case a World is checked twice at once
+    private static final Map<Barrel, Integer> checking = new ConcurrentHashMap<>();
+
+    private BarrelSnapshotCheck() {
+    }
+
+    /**
+     * If this Barrel will be checked by a running snapshot check.
+     * <p>The Chunks loaded for the check don't need to queue it for the BarrelCheck.
+     */
+    public static boolean isChecking(Barrel barrel) {
+        return !checking.isEmpty() && checking.containsKey(barrel);
+    }
+
+    /**
+     * Check all Barrels in this World, removing the ones that are broken.
+     * <p>Requires 1.13+ to read Stairs from ChunkSnapshots.
+     *
+     * @return Future completing with the amount of Barrels removed
+     */
+    public static CompletableFuture<Integer> checkWorld(World world) {
+        if (!BreweryPlugin.getMCVersion().isOrLater(MinecraftVersion.V1_13)) {
+            return CompletableFuture.failedFuture(new UnsupportedOperationException("Snapshot Barrel checks need 1.13 or later"));
+        }
+
+        // Group the Barrels by the Chunk of their Spigot, so each group loads its Chunks once
+        Map<Long, List<Barrel>> groups = new HashMap<>();
+        for (Barrel barrel : new ArrayList<>(Barrel.barrels)) {
+            Block spigot = barrel.getSpigot();
+            if (world.equals(spigot.getWorld())) {
+                groups.computeIfAbsent(BlockKey.chunkKey(spigot.getX() >> 4, spigot.getZ() >> 4), k -> new ArrayList<>()).add(barrel);
+            }
+        }
+
+        for (List<Barrel> group : groups.values()) {
+            for (Barrel barrel : group) {
+                checking.merge(barrel, 1, Integer::sum);
+            }
+        }
+        Queue<List<Barrel>> pending = new ConcurrentLinkedQueue<>(groups.values());
+        AtomicInteger removed = new AtomicInteger();
+        int workers = Math.min(WORKERS, groups.size());
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            chains[i] = next(world, pending, removed);
+        }
+        return CompletableFuture.allOf(chains).thenApply(v -> removed.get());
+    }
+
+    private static CompletableFuture<Void> next(World world, Queue<List<Barrel>> pending, AtomicInteger removed) {
+        List<Barrel> group = pending.poll();
+        if (group == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return checkGroup(world, group, removed).thenCompose(v -> next(world, pending, removed));
+    }
+
+    private static CompletableFuture<Void> checkGroup(World world, List<Barrel> group, AtomicInteger removed) {
+        return loadSnapshots(world, group)
+            .thenCompose(snapshots -> {
+                CompletableFuture<List<Result>> results = new CompletableFuture<>();
+                BreweryPlugin.getScheduler().runTaskAsynchronously(() -> {
+                    try {
+                        results.complete(check(group, snapshots));
+                    } catch (Throwable e) {
+                        results.completeExceptionally(e);
+                    }
+                });
+                return results;
+            })
+            .thenCompose(results -> {
+                CompletableFuture<Void> applied = new CompletableFuture<>();
+                BreweryPlugin.getScheduler().runTask(group.get(0).getSpigot().getLocation(), () -> {
+                    try {
+                        apply(results, removed);
+                        applied.complete(null);
+                    } catch (Throwable e) {
+                        applied.completeExceptionally(e);
+                    }
+                });
+                return applied;
+            })
+            .exceptionally(e -> {
+                // A failing group should not stop the rest of the world
+                Logging.errorLog("Failed to check " + group.size() + " Barrels near " + group.get(0).getSpigot().getLocation(), e);
+                // Their Chunk loads skipped the BarrelCheck, so let it check them instead
+                Barrel.BarrelCheck.queue(new ArrayList<>(group));
+                return null;
+            })
+            .whenComplete((v, e) -> {
+                for (Barrel barrel : group) {
+                    checking.computeIfPresent(barrel, (b, count) -> count == 1 ? null : count - 1);
+                }
+            });
+    }
+
+    /**
+     * Load all Chunks that the Barrels in this group may reach into, and snapshot them on their owning thread.
+     * Chunks that are not generated are left out.
+     */
+    private static CompletableFuture<Map<Long, ChunkSnapshot>> loadSnapshots(World world, List<Barrel> group) {
+        int minX = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, minZ = Integer.MAX_VALUE, maxZ = Integer.MIN_VALUE;
+        for (Barrel barrel : group) {
+            Block spigot = barrel.getSpigot();
+            minX = Math.min(minX, (spigot.getX() - REACH) >> 4);
+            maxX = Math.max(maxX, (spigot.getX() + REACH) >> 4);
+            minZ = Math.min(minZ, (spigot.getZ() - REACH) >> 4);
+            maxZ = Math.max(maxZ, (spigot.getZ() + REACH) >> 4);
+        }
+
+        Map<Long, ChunkSnapshot> snapshots = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> loading = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                int chunkX = x, chunkZ = z;
+                CompletableFuture<Void> loaded = new CompletableFuture<>();
+                BreweryPlugin.getScheduler().runTask(new Location(world, chunkX << 4, 0, chunkZ << 4), () ->
+                    PaperLib.getChunkAtAsync(world, chunkX, chunkZ, false).whenComplete((chunk, e) -> {
+                        if (chunk != null) {
+                            snapshots.put(BlockKey.chunkKey(chunkX, chunkZ), chunk.getChunkSnapshot(false, false, false));
+                        }
+                        loaded.complete(null);
+                    }));
+                loading.add(loaded);
+            }
+        }
+        return CompletableFuture.allOf(loading.toArray(new CompletableFuture<?>[0])).thenApply(v -> snapshots);
+    }
+
+    // Runs async, only reads from the snapshots
+    private static List<Result> check(List<Barrel> group, Map<Long, ChunkSnapshot> snapshots) {
+        List<Result> results = new ArrayList<>(group.size());
+        for (Barrel barrel : group) {
+            BoundingBox bounds = new BoundingBox(0, 0, 0, 0, 0, 0);
+            try {
+                SnapshotAccess access = new SnapshotAccess(barrel.getSpigot(), snapshots);
+                Block broken = barrel.getBrokenBlock(access, bounds);
+                results.add(new Result(barrel, broken != null, bounds, broken == null ? BarrelBody.Shape.read(access) : null));
+            } catch (IllegalStateException e) {
+                // Part of the Barrel is in a Chunk we don't have, can't tell here
+                results.add(new Result(barrel, false, null, null));
+            }
+        }
+        return results;
+    }
+
+    // Runs on the thread owning the Barrels
+    private static void apply(List<Result> results, AtomicInteger removed) {
+        List<Barrel> unchecked = new ArrayList<>();
+        for (Result result : results) {
+            Barrel barrel = result.barrel;
+            if (!Barrel.isRegistered(barrel)) {
+                continue;
+            }
+            if (result.bounds == null) {
+                unchecked.add(barrel);
+            } else if (result.broken) {
+                // The World may have changed since the snapshot, confirm before removing
+                Block broken = barrel.getBrokenBlock(false);
+                if (broken != null) {
+                    barrel.remove(broken, null, true);
+                    removed.incrementAndGet();
+                }
+            } else {
+                barrel.applyStructure(result.bounds, result.shape);
+            }
+        }
+        // Their Chunk loads skipped the BarrelCheck, so let it check them instead
+        Barrel.BarrelCheck.queue(unchecked);
+    }
+
+    // Without bounds if the Barrel could not be checked on the snapshots
+    private record Result(Barrel barrel, boolean broken, BoundingBox bounds, BarrelBody.Shape shape) {
+    }
+
+    /**
+     * Reads the Blocks around a Spigot from ChunkSnapshots
+     */
+    private static final class SnapshotAccess implements BarrelBody.BlockAccess {
+        private final int spigotX, spigotY, spigotZ;
+        private final Map<Long, ChunkSnapshot> snapshots;
+
+        private SnapshotAccess(Block spigot, Map<Long, ChunkSnapshot> snapshots) {
+            this.spigotX = spigot.getX();
+            this.spigotY = spigot.getY();
+            this.spigotZ = spigot.getZ();
+            this.snapshots = snapshots;
+        }
+
+        @Override
+        public Material getType(int x, int y, int z) {
+            int ax = spigotX + x, az = spigotZ + z;
+            return snapshot(ax, az).getBlockType(ax & 0xF, spigotY + y, az & 0xF);
+        }
+
+        @Override
+        public boolean areStairsInverted(int x, int y, int z) {
+            int ax = spigotX + x, az = spigotZ + z;
+            BlockData data = snapshot(ax, az).getBlockData(ax & 0xF, spigotY + y, az & 0xF);
+            return data instanceof Stairs && ((Stairs) data).getHalf() == Stairs.Half.TOP;
+        }
+
+        private ChunkSnapshot snapshot(int x, int z) {
+            ChunkSnapshot snapshot = snapshots.get(BlockKey.chunkKey(x >> 4, z >> 4));
+            if (snapshot == null) {
+                throw new IllegalStateException("Chunk not loaded: " + (x >> 4) + ", " + (z >> 4));
+            }
+            return snapshot;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.dre.brewery.configuration.files.Config;
 import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.lore.Base91DecoderStream;
 import com.dre.brewery.lore.Base91EncoderStream;
+import com.dre.brewery.lore.BrewCodec;
 import com.dre.brewery.lore.BrewLore;
 import com.dre.brewery.lore.LoreLoadStream;
 import com.dre.brewery.lore.LoreSaveStream;
@@ -35,7 +36,9 @@ import com.dre.brewery.lore.XORScrambleStream;
 import com.dre.brewery.lore.XORUnscrambleStream;
 import com.dre.brewery.recipe.BEffect;
 import com.dre.brewery.recipe.BRecipe;
+import com.dre.brewery.recipe.Ingredient;
 import com.dre.brewery.recipe.PotionColor;
+import com.dre.brewery.recipe.RecipeItem;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MinecraftVersion;
@@ -357,6 +360,25 @@ public class Brew implements Cloneable {
         }
     }
 
+    /**
+     * Clone that also copies all Ingredients, so changing an Ingredient of one Brew does not change the other
+     *
+     * @return The clone, null if one of the Ingredients can't be copied
+     */
+    @Nullable
+    Brew deepClone() {
+        List<Ingredient> copies = new ArrayList<>(ingredients.getIngredientList().size());
+        for (Ingredient ingredient : ingredients.getIngredientList()) {
+            if (!(ingredient instanceof RecipeItem item)) {
+                return null;
+            }
+            copies.add((Ingredient) item.getMutableCopy());
+        }
+        Brew brew = clone();
+        brew.ingredients = new BIngredients(copies, ingredients.getCookedTime());
+        return brew;
+    }
+
     @Override
     public String toString() {
         return "Brew{" +
@@ -621,25 +643,18 @@ public class Brew implements Cloneable {
     public void distillSlot(ItemStack slotItem, PotionMeta potionMeta) {
         if (immutable) return;
 
-        distillRuns += 1;
+        BRecipe recipe = distill();
         BrewLore lore = new BrewLore(this, potionMeta);
-        BRecipe recipe = ingredients.getDistillRecipe(wood, ageTime);
         if (recipe != null) {
-            // distillRuns will have an effect on the amount of alcohol, not the quality
-            currentRecipe = recipe;
-            quality = calcQuality();
-
             lore.addOrReplaceEffects(getEffects(), quality);
             potionMeta.setDisplayName(BUtil.color("&f" + recipe.getName(quality)));
             recipe.getColor().colorBrew(potionMeta, slotItem, canDistill());
 
         } else {
-            quality = 0;
             lore.removeEffects();
             potionMeta.setDisplayName(BUtil.color("&f" + lang.getEntry("Brew_DistillUndefined")));
             PotionColor.GREY.colorBrew(potionMeta, slotItem, canDistill());
         }
-        alc = calcAlcohol();
         updateCustomModelData(potionMeta);
 
         // Distill Lore
@@ -665,6 +680,27 @@ public class Brew implements Cloneable {
         slotItem.setItemMeta(potionMeta);
     }
 
+    /**
+     * Distill this Brew once, only changing its values and not any item.
+     *
+     * @return The Recipe the Brew now has, null if distilling ruined it
+     */
+    @Nullable
+    public BRecipe distill() {
+        if (immutable) return currentRecipe;
+        distillRuns += 1;
+        BRecipe recipe = ingredients.getDistillRecipe(wood, ageTime);
+        if (recipe != null) {
+            // distillRuns will have an effect on the amount of alcohol, not the quality
+            currentRecipe = recipe;
+            quality = calcQuality();
+        } else {
+            quality = 0;
+        }
+        alc = calcAlcohol();
+        return recipe;
+    }
+
     public int getDistillTimeNextRun() {
         if (!canDistill()) {
             return -1;
@@ -688,16 +724,11 @@ public class Brew implements Cloneable {
         PotionMeta potionMeta = (PotionMeta) item.getItemMeta();
 
         BrewLore lore = new BrewLore(this, potionMeta);
-        ageTime += time;
+        BRecipe previousRecipe = currentRecipe;
+        BRecipe recipe = age(time, woodType);
 
-        // if younger than half a day, it shouldnt get aged form
         if (ageTime > 0.5) {
-            woodShift(time, woodType);
-            BRecipe recipe = ingredients.getAgeRecipe(wood, ageTime, distillRuns > 0);
             if (recipe != null) {
-                currentRecipe = recipe;
-                quality = calcQuality();
-
                 lore.addOrReplaceEffects(getEffects(), quality);
                 potionMeta.setDisplayName(BUtil.color("&f" + recipe.getName(quality)));
                 recipe.getColor().colorBrew(potionMeta, item, canDistill());
@@ -707,15 +738,15 @@ public class Brew implements Cloneable {
                     potionMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
                 }
             } else {
-                quality = 0;
+                // Convert the Lore of the Recipe it had before it was ruined
+                currentRecipe = previousRecipe;
                 lore.convertLore(false);
-                lore.removeEffects();
                 currentRecipe = null;
+                lore.removeEffects();
                 potionMeta.setDisplayName(BUtil.color("&f" + lang.getEntry("Brew_BadPotion")));
                 PotionColor.GREY.colorBrew(potionMeta, item, canDistill());
             }
         }
-        alc = calcAlcohol();
         updateCustomModelData(potionMeta);
 
         // Lore
@@ -749,6 +780,27 @@ public class Brew implements Cloneable {
         item.setItemMeta(potionMeta);
     }
 
+    /**
+     * Age this Brew, only changing its values and not any item.
+     * <p>age(ItemStack, float, BarrelWoodType) uses this, and then updates the Lore and name of the item
+     *
+     * @return The Recipe the Brew now has, null if it has none
+     */
+    @Nullable
+    public BRecipe age(float time, BarrelWoodType woodType) {
+        if (immutable) return currentRecipe;
+        ageTime += time;
+
+        // if younger than half a day, it shouldnt get aged form
+        if (ageTime > 0.5) {
+            woodShift(time, woodType);
+            currentRecipe = ingredients.getAgeRecipe(wood, ageTime, distillRuns > 0);
+            quality = currentRecipe != null ? calcQuality() : 0;
+        }
+        alc = calcAlcohol();
+        return currentRecipe;
+    }
+
     /**
      * Slowly shift the wood of the Brew to the new Type
      */
@@ -909,24 +961,52 @@ public class Brew implements Cloneable {
     }
 
     private static Brew load(ItemMeta meta) {
-        InputStream itemLoadStream = null;
         if (MinecraftVersion.isUseNBT()) {
             // Try loading the Item Data from PersistentDataContainer
             NBTLoadStream nbtStream = new NBTLoadStream(meta);
             if (nbtStream.hasData()) {
-                itemLoadStream = nbtStream;
+                byte[] data = nbtStream.getData();
+                return BrewCache.get(data, saveSeed, config.isEnableEncode(), () -> load(data));
             }
         }
-        if (itemLoadStream == null) {
-            // If either NBT is not supported or no data was found in NBT, try loading from Lore
-            try {
-                itemLoadStream = new Base91DecoderStream(new LoreLoadStream(meta, 0));
-            } catch (IllegalArgumentException ignored) {
-                // No Brew data found in Meta
+        // If either NBT is not supported or no data was found in NBT, try loading from Lore
+        InputStream itemLoadStream;
+        try {
+            itemLoadStream = new Base91DecoderStream(new LoreLoadStream(meta, 0));
+        } catch (IllegalArgumentException ignored) {
+            // No Brew data found in Meta
+            return null;
+        }
+        return load(itemLoadStream);
+    }
+
+    private static Brew load(byte[] data) {
+        try {
+            boolean parityFailed = data.length >= 2 && !BrewCodec.hasParity(data);
+            if (parityFailed) {
+                Logging.errorLog("Parity check failed on Brew while loading, trying to load anyways!");
+            }
+            Brew brew = new Brew();
+            XORUnscrambleStream.SuccessType successType = BrewCodec.decode(data, saveSeed, prevSaveSeeds, brew::loadFromStream);
+            if (successType == null) {
+                if (parityFailed) {
+                    Logging.errorLog("Failed to load Brew. Maybe something corrupted the Lore of the Item?");
+                } else {
+                    Logging.errorLog("Brew has data stored in v" + data[1] + " this Plugin version supports up to v" + SAVE_VER);
+                }
                 return null;
             }
+            brew.checkNeedsSave(successType, false);
+            return brew;
+        } catch (IOException e) {
+            Logging.errorLog("IO Error while loading Brew", e);
+        } catch (InvalidKeyException e) {
+            Logging.errorLog("Failed to load Brew, has the data key 'encodeKey' in the config.yml been changed?", e);
         }
+        return null;
+    }
 
+    private static Brew load(InputStream itemLoadStream) {
         XORUnscrambleStream unscrambler = new XORUnscrambleStream(itemLoadStream, saveSeed, prevSaveSeeds);
         try (DataInputStream in = new DataInputStream(unscrambler)) {
             boolean parityFailed = false;
@@ -952,20 +1032,7 @@ public class Brew implements Cloneable {
                     return null;
             }
 
-            XORUnscrambleStream.SuccessType successType = unscrambler.getSuccessType();
-            if (successType == XORUnscrambleStream.SuccessType.PREV_SEED) {
-                Logging.debugLog("Converting Brew from previous Seed");
-                brew.setNeedsSave(true);
-            } else if ((config.isEnableEncode() && !brew.isStripped()) != (successType == XORUnscrambleStream.SuccessType.MAIN_SEED)) {
-                // We have either enabled encode and the data was not encoded or the other way round
-                Logging.debugLog("Converting Brew to new encode setting");
-                brew.setNeedsSave(true);
-            } else if (MinecraftVersion.isUseNBT() && itemLoadStream instanceof Base91DecoderStream) {
-                // We are on a version that supports nbt but the data is still in the lore of the item
-                // Just save it again so that it gets saved to nbt
-                Logging.debugLog("Converting Brew to NBT");
-                brew.setNeedsSave(true);
-            }
+            brew.checkNeedsSave(unscrambler.getSuccessType(), itemLoadStream instanceof Base91DecoderStream);
             return brew;
         } catch (IOException e) {
             Logging.errorLog("IO Error while loading Brew", e);
@@ -975,6 +1042,29 @@ public class Brew implements Cloneable {
         return null;
     }
 
+    private void checkNeedsSave(XORUnscrambleStream.SuccessType successType, boolean fromLore) {
+        switch (successType) {
+            case UNSCRAMBLED -> Logging.debugLog("Unscrambled data");
+            case MAIN_SEED -> Logging.debugLog("Using main Seed to unscramble");
+            case PREV_SEED -> Logging.debugLog("Had to use prevSeed to unscramble");
+            default -> {
+            }
+        }
+        if (successType == XORUnscrambleStream.SuccessType.PREV_SEED) {
+            Logging.debugLog("Converting Brew from previous Seed");
+            setNeedsSave(true);
+        } else if ((config.isEnableEncode() && !isStripped()) != (successType == XORUnscrambleStream.SuccessType.MAIN_SEED)) {
+            // We have either enabled encode and the data was not encoded or the other way round
+            Logging.debugLog("Converting Brew to new encode setting");
+            setNeedsSave(true);
+        } else if (MinecraftVersion.isUseNBT() && fromLore) {
+            // We are on a version that supports nbt but the data is still in the lore of the item
+            // Just save it again so that it gets saved to nbt
+            Logging.debugLog("Converting Brew to NBT");
+            setNeedsSave(true);
+        }
+    }
+
     private void loadFromStream(DataInputStream in, byte dataVersion) throws IOException {
         quality = in.readByte();
         int bools = in.readUnsignedByte();
@@ -1006,12 +1096,16 @@ public class Brew implements Cloneable {
      * <p>Should be called after any changes made to the brew
      */
     public void save(ItemMeta meta) {
-        OutputStream itemSaveStream;
         if (MinecraftVersion.isUseNBT()) {
-            itemSaveStream = new NBTSaveStream(meta);
-        } else {
-            itemSaveStream = new Base91EncoderStream(new LoreSaveStream(meta, 0));
+            try {
+                // If Stripped of data, we can save everything unscrambled
+                NBTSaveStream.writeData(meta, BrewCodec.encode(saveSeed, config.isEnableEncode() && !isStripped(), this::saveToStream));
+            } catch (IOException e) {
+                Logging.errorLog("IO Error while saving Brew", e);
+            }
+            return;
         }
+        OutputStream itemSaveStream = new Base91EncoderStream(new LoreSaveStream(meta, 0));
         XORScrambleStream scrambler = new XORScrambleStream(itemSaveStream, saveSeed);
         try (DataOutputStream out = new DataOutputStream(scrambler)) {
             out.writeByte(86); // Parity/sanity
@@ -1087,6 +1181,7 @@ public class Brew implements Cloneable {
             if (!prevSaveSeeds.contains(saveSeed)) {
                 prevSaveSeeds.add(saveSeed);
             }
+            BrewCache.clear();
         }
     }
 
@@ -1101,6 +1196,7 @@ public class Brew implements Cloneable {
         if (!prevSaveSeeds.contains(saveSeed)) {
             prevSaveSeeds.add(saveSeed);
         }
+        BrewCache.clear();
     }
 
     public static List<Long> getPrevSeeds() {
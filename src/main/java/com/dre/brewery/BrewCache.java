@@ -0,0 +1,137 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Remembers Brews decoded from the data of Items, keyed by the exact stored bytes.
+ * <p>The same Potion is loaded again on every click, hopper move and distill cycle,
+ * so the unscrambling and decoding of its Ingredients can be skipped when the data did not change.
+ * The decoded Brews are never handed out, each load gets its own copy, down to the Ingredients.
+ * <p>Cleared whenever the seeds or the Brew Recipes change, as decoding depends on them.
+ */
+public final class BrewCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<Key, Brew> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Brew> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private BrewCache() {
+    }
+
+    /**
+     * Get a copy of the Brew decoded from this data, decoding it only if it is not cached yet.
+     *
+     * @param data   The stored bytes, must not be changed afterwards
+     * @param seed   The seed the data would be unscrambled with
+     * @param encode If encoding is enabled, decides if the Brew needs to be saved again
+     * @param decode Decodes the Brew, may return null if the data is invalid
+     */
+    @Nullable
+    static Brew get(byte[] data, long seed, boolean encode, Supplier<Brew> decode) {
+        Key key = new Key(data, seed, encode);
+        Brew snapshot;
+        synchronized (cache) {
+            snapshot = cache.get(key);
+        }
+        if (snapshot != null) {
+            hits.incrementAndGet();
+            return snapshot.deepClone();
+        }
+        misses.incrementAndGet();
+        Brew brew = decode.get();
+        if (brew == null) {
+            // Not cached, so broken data is still reported every time
+            return null;
+        }
+        // Brews with Ingredients we can't copy are not cached, they would be shared by all loads
+        Brew copy = brew.deepClone();
+        if (copy != null) {
+            synchronized (cache) {
+                cache.put(key, copy);
+            }
+        }
+        return brew;
+    }
+
+    /**
+     * Forget all decoded Brews, needs to be called whenever the seeds or Brew Recipes change
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static final class Key {
+        private final byte[] data;
+        private final long seed;
+        private final boolean encode;
+        private final int hash;
+
+        private Key(byte[] data, long seed, boolean encode) {
+            this.data = data;
+            this.seed = seed;
+            this.encode = encode;
+            this.hash = 31 * (31 * Arrays.hashCode(data) + Long.hashCode(seed)) + Boolean.hashCode(encode);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return seed == key.seed && encode == key.encode && Arrays.equals(data, key.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
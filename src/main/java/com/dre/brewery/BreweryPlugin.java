@@ -42,6 +42,7 @@ import com.dre.brewery.listeners.CauldronListener;
 import com.dre.brewery.listeners.EntityListener;
 import com.dre.brewery.listeners.InventoryListener;
 import com.dre.brewery.listeners.PlayerListener;
+import com.dre.brewery.listeners.WorldListener;
 import com.dre.brewery.recipe.CustomItem;
 import com.dre.brewery.recipe.Ingredient;
 import com.dre.brewery.recipe.ItemLoader;
@@ -165,7 +166,8 @@ public final class BreweryPlugin extends JavaPlugin {
 					.filter(Objects::nonNull)
 					.toList();
 
-				Barrel.getBarrels().addAll(barrels);
+				barrels.forEach(Barrel::registerBarrel);
+				Barrel.checkLoadedChunks();
 				count = barrels.size();
 
 				long duration = System.currentTimeMillis() - startTime;
@@ -178,7 +180,8 @@ public final class BreweryPlugin extends JavaPlugin {
 				.filter(Objects::nonNull)
 				.toList();
 
-			Barrel.getBarrels().addAll(barrels);
+			barrels.forEach(Barrel::registerBarrel);
+			Barrel.checkLoadedChunks();
 			count = barrels.size();
 
 			long duration = System.currentTimeMillis() - startTime;
@@ -186,9 +189,10 @@ public final class BreweryPlugin extends JavaPlugin {
 		BCauldron.getBcauldrons().putAll(dataManager.getAllCauldrons().stream()
 						.filter(Objects::nonNull)
 						.collect(Collectors.toMap(
-								BCauldron::getBlock, Function.identity(),
+								BCauldron::getBlockKey, Function.identity(),
 								(existing, replacement) -> replacement // Issues#68
 						)));
+		BCauldron.checkLoadedChunks();
 		BPlayer.getPlayers().putAll(dataManager.getAllPlayers()
 				.stream()
 				.filter(Objects::nonNull)
@@ -228,6 +232,7 @@ public final class BreweryPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PlayerListener(), this);
         getServer().getPluginManager().registerEvents(new EntityListener(), this);
         getServer().getPluginManager().registerEvents(new InventoryListener(), this);
+        getServer().getPluginManager().registerEvents(new WorldListener(), this);
         getServer().getPluginManager().registerEvents(new IntegrationListener(), this);
         if (getMCVersion().isOrLater(MinecraftVersion.V1_9))
             getServer().getPluginManager().registerEvents(new CauldronListener(), this);
@@ -241,6 +246,7 @@ public final class BreweryPlugin extends JavaPlugin {
         // Heartbeat
         BreweryPlugin.getScheduler().runTaskTimer(new BreweryRunnable(), 650, 1200);
         BreweryPlugin.getScheduler().runTaskTimer(new DrunkRunnable(), 120, 120);
+        BreweryPlugin.getScheduler().runTaskTimer(new Barrel.BarrelCheck(), 1, 1);
         if (getMCVersion().isOrLater(MinecraftVersion.V1_9))
             BreweryPlugin.getScheduler().runTaskTimer(new CauldronParticles(), 1, 1);
 
@@ -327,18 +333,9 @@ public final class BreweryPlugin extends JavaPlugin {
         public void run() {
             long start = System.currentTimeMillis();
 
-            // runs every min to update cooking time
-
-            for (BCauldron bCauldron : BCauldron.bcauldrons.values()) {
-                BreweryPlugin.getScheduler().runTask(bCauldron.getBlock().getLocation(), () -> {
-                    if (!bCauldron.onUpdate()) {
-                        BCauldron.bcauldrons.remove(bCauldron.getBlock());
-                    }
-                });
-            }
-
-
+            // Cauldrons compute their cooking time from the aging clock
             Barrel.onUpdate();// runs every min to check and update ageing time
+            BCauldron.recheckWorld();
 
             if (getMCVersion().isOrLater(MinecraftVersion.V1_14)) MCBarrel.onUpdate();
             if (BlockLockerHook.BLOCKLOCKER.isEnabled()) BlockLockerBarrel.clearBarrelSign();
@@ -23,11 +23,16 @@ package com.dre.brewery.api;
 import com.dre.brewery.BCauldron;
 import com.dre.brewery.BPlayer;
 import com.dre.brewery.Barrel;
+import com.dre.brewery.BarrelSnapshotCheck;
 import com.dre.brewery.Brew;
+import com.dre.brewery.BrewCache;
 import com.dre.brewery.configuration.ConfigManager;
 import com.dre.brewery.configuration.files.Config;
 import com.dre.brewery.recipe.BCauldronRecipe;
 import com.dre.brewery.recipe.BRecipe;
+import com.dre.brewery.recipe.RecipeCache;
+import com.dre.brewery.recipe.RecipeSweep;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -35,7 +40,10 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Convenience methods to get common objects or do common things.
@@ -317,6 +325,18 @@ public class BreweryApi {
         return false;
     }
 
+    /**
+     * Check the structure of all Barrels in this World and remove the ones that are broken.
+     * <p>The Blocks are read from ChunkSnapshots asynchronously, only loading and removal happen on the server thread.
+     * Requires 1.13+
+     *
+     * @param world The World to check the Barrels of
+     * @return Future completing with the amount of Barrels that were removed
+     */
+    public static CompletableFuture<Integer> checkBarrels(World world) {
+        return BarrelSnapshotCheck.checkWorld(world);
+    }
+
     // # # # # # #            # # # # # #
     // # # # # #    Cauldron    # # # # #
     // # # # # # #            # # # # # #
@@ -385,6 +405,8 @@ public class BreweryApi {
         }
         BRecipe.getAddedRecipes().add(recipe);
         recipe.updateAcceptedLists();
+        RecipeCache.clear();
+        BrewCache.clear();
     }
 
     /**
@@ -400,6 +422,8 @@ public class BreweryApi {
         for (int i = 0; i < recipes.size(); i++) {
             if (recipes.get(i).getRecipeName().equalsIgnoreCase(name)) {
                 BRecipe remove = recipes.remove(i);
+                RecipeCache.clear();
+                BrewCache.clear();
                 if (i < BRecipe.numConfigRecipes) {
                     // We removed one of the Config Recipes
                     BRecipe.numConfigRecipes--;
@@ -420,6 +444,19 @@ public class BreweryApi {
         return new BRecipe.Builder(recipeNames);
     }
 
+    /**
+     * Simulate Brews for variations of these Recipes asynchronously, and write the results to a CSV file.
+     * <p>Varies the amount of each Ingredient, the cooking time, distill runs, age and barrel wood,
+     * to show which Recipe and quality each variation would result in.
+     *
+     * @param recipes The Recipes to vary, for example BRecipe.getAllRecipes()
+     * @param file    The CSV file to write, replaced if it exists
+     * @return Future completing with the number of variations written
+     */
+    public static CompletableFuture<Integer> sweepRecipes(Collection<BRecipe> recipes, File file) {
+        return RecipeSweep.run(recipes, file);
+    }
+
 
     // # # # # # #                   # # # # # #
     // # # # # #    Cauldron Recipe    # # # # #
@@ -452,6 +489,7 @@ public class BreweryApi {
         }
         BCauldronRecipe.getAddedRecipes().add(recipe);
         recipe.updateAcceptedLists();
+        RecipeCache.clear();
     }
 
     /**
@@ -468,6 +506,7 @@ public class BreweryApi {
         for (int i = 0; i < recipes.size(); i++) {
             if (recipes.get(i).getName().equalsIgnoreCase(name)) {
                 BCauldronRecipe remove = recipes.remove(i);
+                RecipeCache.clear();
                 if (i < BCauldronRecipe.numConfigRecipes) {
                     // We removed one of the Config Recipes
                     BCauldronRecipe.numConfigRecipes--;
@@ -20,6 +20,7 @@
 
 package com.dre.brewery.commands.subcommands;
 
+import com.dre.brewery.BarrelSnapshotCheck;
 import com.dre.brewery.BreweryPlugin;
 import com.dre.brewery.commands.CommandManager;
 import com.dre.brewery.commands.SubCommand;
@@ -29,8 +30,11 @@ import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.storage.DataManager;
 import com.dre.brewery.storage.StorageInitException;
 import com.dre.brewery.utility.Logging;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class DataManagerCommand implements SubCommand {
@@ -56,13 +60,37 @@ public class DataManagerCommand implements SubCommand {
             case "save" ->
                 BreweryPlugin.getDataManager().saveAll(true, () -> Logging.msg(sender, "Saved all Brewery data!"));
 
+            case "checkbarrels" -> {
+                List<World> worlds = args.length > 2 ? new ArrayList<>() : Bukkit.getWorlds();
+                if (args.length > 2) {
+                    World world = Bukkit.getWorld(args[2]);
+                    if (world == null) {
+                        Logging.msg(sender, "Unknown world: " + args[2]);
+                        return;
+                    }
+                    worlds.add(world);
+                }
+                for (World world : worlds) {
+                    BarrelSnapshotCheck.checkWorld(world).whenComplete((removed, e) -> {
+                        if (e != null) {
+                            Logging.msg(sender, "Could not check the barrels in " + world.getName() + ": " + e.getMessage());
+                        } else {
+                            Logging.msg(sender, "Checked the barrels in " + world.getName() + ", removed " + removed + " broken barrels.");
+                        }
+                    });
+                }
+            }
+
             default -> lang.sendEntry(sender, "Error_UnknownCommand");
         }
     }
 
     @Override
     public List<String> tabComplete(BreweryPlugin breweryPlugin, CommandSender sender, String label, String[] args) {
-        return List.of("reload", "save");
+        if (args.length == 3 && args[1].equalsIgnoreCase("checkbarrels")) {
+            return Bukkit.getWorlds().stream().map(World::getName).toList();
+        }
+        return List.of("reload", "save", "checkbarrels");
     }
 
     @Override
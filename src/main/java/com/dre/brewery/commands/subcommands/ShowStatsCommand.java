@@ -23,11 +23,13 @@ package com.dre.brewery.commands.subcommands;
 import com.dre.brewery.BCauldron;
 import com.dre.brewery.BPlayer;
 import com.dre.brewery.Barrel;
+import com.dre.brewery.BrewCache;
 import com.dre.brewery.BreweryPlugin;
 import com.dre.brewery.Wakeup;
 import com.dre.brewery.commands.SubCommand;
 import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.recipe.BRecipe;
+import com.dre.brewery.recipe.RecipeCache;
 import com.dre.brewery.utility.Logging;
 import org.bukkit.command.CommandSender;
 
@@ -43,6 +45,8 @@ public class ShowStatsCommand implements SubCommand {
         Logging.msg(sender, "Barrels built: " + Barrel.barrels.size());
         Logging.msg(sender, "Cauldrons boiling: " + BCauldron.bcauldrons.size());
         Logging.msg(sender, "Number of Recipes: " + BRecipe.getAllRecipes().size());
+        Logging.msg(sender, "Recipe cache: " + RecipeCache.getHits() + " hits, " + RecipeCache.getMisses() + " misses, " + RecipeCache.size() + " entries");
+        Logging.msg(sender, "Brew cache: " + BrewCache.getHits() + " hits, " + BrewCache.getMisses() + " misses, " + BrewCache.size() + " entries");
         Logging.msg(sender, "Wakeups: " + Wakeup.wakeups.size());
     }
 
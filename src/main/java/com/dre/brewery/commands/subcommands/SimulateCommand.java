@@ -30,6 +30,7 @@ import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.recipe.BCauldronRecipe;
 import com.dre.brewery.recipe.BRecipe;
 import com.dre.brewery.recipe.RecipeItem;
+import com.dre.brewery.recipe.RecipeSweep;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.Logging;
 import lombok.AllArgsConstructor;
@@ -42,8 +43,12 @@ import org.bukkit.inventory.meta.PotionMeta;
 import org.bukkit.util.StringUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
@@ -72,6 +77,9 @@ public class SimulateCommand implements SubCommand {
             } else if (status instanceof Status.Recipe) {
                 simulateRecipe(lang, sender, args);
                 return;
+            } else if (status instanceof Status.Sweep) {
+                sweep(breweryPlugin, lang, sender, args);
+                return;
             } else if (status instanceof Status.Finished finished) {
                 simulateIngredients(lang, sender, args, currentArgIdx, finished.simulation());
                 return;
@@ -94,6 +102,7 @@ public class SimulateCommand implements SubCommand {
         lang.sendEntry(sender, "Help_Simulate_Age");
         lang.sendEntry(sender, "Help_Simulate_Brewer");
         lang.sendEntry(sender, "Help_Simulate_Player");
+        lang.sendEntry(sender, "Help_Simulate_Sweep");
     }
 
     private static void simulateIngredients(Lang lang, CommandSender sender, String[] args, int currentArgIdx,
@@ -134,6 +143,35 @@ public class SimulateCommand implements SubCommand {
         simulate(lang, sender, SimulationParameters.of(recipe), recipe.getIngredients());
     }
 
+    private static void sweep(BreweryPlugin breweryPlugin, Lang lang, CommandSender sender, String[] args) {
+        Collection<BRecipe> recipes;
+        if (args.length > 2) {
+            String recipeArg = Arrays.stream(args)
+                .skip(2)
+                .collect(Collectors.joining(" "));
+            BRecipe recipe = BRecipe.getMatching(recipeArg);
+            if (recipe == null) {
+                lang.sendEntry(sender, "Error_NoBrewName", recipeArg);
+                return;
+            }
+            recipes = List.of(recipe);
+        } else {
+            recipes = BRecipe.getAllRecipes();
+        }
+
+        String fileName = "sweep-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv";
+        File file = new File(new File(breweryPlugin.getDataFolder(), "sweeps"), fileName);
+        lang.sendEntry(sender, "CMD_Sweep_Started", String.valueOf(recipes.size()));
+        RecipeSweep.run(recipes, file).whenComplete((rows, e) -> BreweryPlugin.getScheduler().runTask(() -> {
+            if (e != null) {
+                Logging.errorLog("Recipe sweep failed", e);
+                lang.sendEntry(sender, "CMD_Sweep_Failed", String.valueOf(e.getMessage()));
+            } else {
+                lang.sendEntry(sender, "CMD_Sweep_Finished", String.valueOf(rows), "sweeps/" + fileName);
+            }
+        }));
+    }
+
     private static void simulate(Lang lang, CommandSender sender, SimulationParameters simulation, List<RecipeItem> itemList) {
         BIngredients ingredients = new BIngredients();
         for (RecipeItem item : itemList) {
@@ -210,6 +248,9 @@ public class SimulateCommand implements SubCommand {
             }
 
             Status status = parser.parse(arg);
+            if (status instanceof Status.Sweep) {
+                return StringUtil.copyPartialMatches(args[args.length - 1], CommandUtil.recipeNamesAndIds(args[args.length - 1]), new ArrayList<>());
+            }
             if (status instanceof Status.Help || status instanceof Status.Error || status instanceof Status.Recipe) {
                 return List.of();
             } else if (status instanceof Status.Finished) {
@@ -249,6 +290,9 @@ public class SimulateCommand implements SubCommand {
                     if (arg.equalsIgnoreCase("help")) {
                         return new Status.Help();
                     }
+                    if (arg.equalsIgnoreCase("sweep")) {
+                        return new Status.Sweep();
+                    }
                     if (BUtil.isInt(arg)) {
                         int cookedTime = BUtil.parseInt(arg).orElse(-1);
                         if (cookedTime < 0) {
@@ -340,7 +384,7 @@ public class SimulateCommand implements SubCommand {
         public List<String> getTabCompletions(String arg) {
             return switch (state) {
                 case START -> {
-                    List<String> completions = new ArrayList<>(List.of("help"));
+                    List<String> completions = new ArrayList<>(List.of("help", "sweep"));
                     completions.addAll(BUtil.numberRange(0, 30));
                     completions.addAll(CommandUtil.recipeNamesAndIds(arg));
                     yield completions;
@@ -409,6 +453,8 @@ public class SimulateCommand implements SubCommand {
         record Help() implements Status {}
         /** Command is {@code /brew simulate <Recipe>} */
         record Recipe() implements Status {}
+        /** Command is {@code /brew simulate sweep [Recipe]} */
+        record Sweep() implements Status {}
         /** Parsing finished, next arguments are ingredients */
         record Finished(SimulationParameters simulation) implements Status {}
         /** User error */
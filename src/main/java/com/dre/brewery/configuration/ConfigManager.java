@@ -20,6 +20,7 @@
 
 package com.dre.brewery.configuration;
 
+import com.dre.brewery.BrewCache;
 import com.dre.brewery.DistortChat;
 import com.dre.brewery.configuration.annotation.OkaeriConfigFileOptions;
 import com.dre.brewery.configuration.files.CauldronFile;
@@ -36,6 +37,7 @@ import com.dre.brewery.integration.item.SlimefunPluginItem;
 import com.dre.brewery.recipe.BCauldronRecipe;
 import com.dre.brewery.recipe.BRecipe;
 import com.dre.brewery.recipe.PluginItem;
+import com.dre.brewery.recipe.RecipeCache;
 import com.dre.brewery.utility.Logging;
 import eu.okaeri.configs.configurer.Configurer;
 import eu.okaeri.configs.serdes.OkaeriSerdesPack;
@@ -145,6 +147,8 @@ public class ConfigManager {
 
             BRecipe.setNumConfigRecipes(configRecipes.size());
         }
+        RecipeCache.clear();
+        BrewCache.clear();
     }
 
 
@@ -163,6 +167,7 @@ public class ConfigManager {
             }
         }
         BCauldronRecipe.setNumConfigRecipes(configRecipes.size());
+        RecipeCache.clear();
 
         // Recalculating Cauldron-Accepted Items for non-config recipes
         for (BRecipe recipe : BRecipe.getAddedRecipes()) {
@@ -211,6 +211,9 @@ public class Config extends AbstractOkaeriConfigFile {
     private int barrelInvSizeLarge = 3;
     private int barrelInvSizeSmall = 1;
 
+    @LocalizedComment("config.barrelInvUnloadMinutes")
+    private int barrelInvUnloadMinutes = 0;
+
     @LocalizedComment("config.brewHopperDump")
     private boolean brewHopperDump = true;
 
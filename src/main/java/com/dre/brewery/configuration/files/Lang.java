@@ -230,6 +230,12 @@ public class Lang extends AbstractOkaeriConfigFile {
     private String cmdAged;
     @CustomKey("CMD_Simulated")
     private String cmdSimulated;
+    @CustomKey("CMD_Sweep_Started")
+    private String cmdSweepStarted;
+    @CustomKey("CMD_Sweep_Finished")
+    private String cmdSweepFinished;
+    @CustomKey("CMD_Sweep_Failed")
+    private String cmdSweepFailed;
     @CustomKey("CMD_Invalid_Option")
     private String cmdInvalidOption;
     @CustomKey("CMD_Duplicate_Option")
@@ -325,6 +331,8 @@ public class Lang extends AbstractOkaeriConfigFile {
     private String helpSimulateBrewer;
     @CustomKey("Help_Simulate_Player")
     private String helpSimulatePlayer;
+    @CustomKey("Help_Simulate_Sweep")
+    private String helpSimulateSweep;
     @CustomKey("Help_Distill")
     private String helpDistill;
     @CustomKey("Help_Age")
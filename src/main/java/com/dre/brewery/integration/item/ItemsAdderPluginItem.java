@@ -25,6 +25,9 @@ import com.dre.brewery.recipe.PluginItem;
 import dev.lone.itemsadder.api.CustomStack;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.List;
+
 public class ItemsAdderPluginItem extends PluginItem {
     @Override
     public boolean matches(ItemStack itemStack) {
@@ -43,4 +46,17 @@ public class ItemsAdderPluginItem extends PluginItem {
             return cs.getNamespacedID().equalsIgnoreCase(this.getItemId());
         }
     }
+
+    @Override
+    public Collection<String> findItemIds(ItemStack itemStack) {
+        if (!Hook.ITEMSADDER.isEnabled()) {
+            return List.of();
+        }
+
+        CustomStack cs = CustomStack.byItemStack(itemStack);
+        if (cs == null) {
+            return List.of();
+        }
+        return List.of(cs.getId(), cs.getNamespacedID());
+    }
 }
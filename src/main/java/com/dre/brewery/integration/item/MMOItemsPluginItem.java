@@ -26,6 +26,9 @@ import com.dre.brewery.utility.Logging;
 import io.lumine.mythic.lib.api.item.NBTItem;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.List;
+
 public class MMOItemsPluginItem extends PluginItem {
 
 // When implementing this, put Brewery as softdepend in your plugin.yml!
@@ -45,4 +48,17 @@ public class MMOItemsPluginItem extends PluginItem {
             return false;
         }
     }
+
+    @Override
+    public Collection<String> findItemIds(ItemStack item) {
+        if (!Hook.MMOITEMS.isEnabled()) return List.of();
+
+        try {
+            NBTItem nbtItem = NBTItem.get(item);
+            return nbtItem.hasType() ? List.of(nbtItem.getString("MMOITEMS_ITEM_ID")) : List.of();
+        } catch (Throwable e) {
+            // Let matches() report it
+            return null;
+        }
+    }
 }
@@ -26,6 +26,9 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 
+import java.util.Collection;
+import java.util.List;
+
 // Nexo is written using Java 21, to not sacrifice current compatability with lower MC versions, we will not be using Nexo's API.
 // We'll be using Bukkit's PDC to check it the ItemStack is a Nexo item (which Nexo uses anyway)
 public class NexoPluginItem extends PluginItem {
@@ -49,6 +52,16 @@ public class NexoPluginItem extends PluginItem {
         return itemId.equalsIgnoreCase(this.getItemId());
     }
 
+    @Override
+    public Collection<String> findItemIds(ItemStack itemStack) {
+        if (!Hook.NEXO.isEnabled() || itemStack == null || itemStack.getItemMeta() == null) {
+            return List.of();
+        }
+
+        String itemId = itemStack.getItemMeta().getPersistentDataContainer().get(ITEM_ID, PersistentDataType.STRING);
+        return itemId != null ? List.of(itemId) : List.of();
+    }
+
     // Nexo's internal API code for getting an item's ID:
     //val ITEM_ID = NamespacedKey(NexoPlugin.instance(), "id")
     //@JvmStatic
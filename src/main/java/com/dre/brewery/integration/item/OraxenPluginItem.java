@@ -25,6 +25,9 @@ import com.dre.brewery.recipe.PluginItem;
 import io.th0rgal.oraxen.api.OraxenItems;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.List;
+
 public class OraxenPluginItem extends PluginItem {
     @Override
     public boolean matches(ItemStack itemStack) {
@@ -38,4 +41,14 @@ public class OraxenPluginItem extends PluginItem {
         }
         return itemId.equalsIgnoreCase(this.getItemId());
     }
-}
\ No newline at end of file
+
+    @Override
+    public Collection<String> findItemIds(ItemStack itemStack) {
+        if (!Hook.ORAXEN.isEnabled()) {
+            return List.of();
+        }
+
+        String itemId = OraxenItems.getIdByItem(itemStack);
+        return itemId != null ? List.of(itemId) : List.of();
+    }
+}
@@ -26,6 +26,9 @@ import com.dre.brewery.utility.Logging;
 import io.github.thebusybiscuit.slimefun4.api.items.SlimefunItem;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.Collection;
+import java.util.List;
+
 public class SlimefunPluginItem extends PluginItem {
 
 // When implementing this, put Brewery as softdepend in your plugin.yml!
@@ -48,4 +51,17 @@ public class SlimefunPluginItem extends PluginItem {
         }
         return false;
     }
+
+    @Override
+    public Collection<String> findItemIds(ItemStack item) {
+        if (!Hook.SLIMEFUN.isEnabled()) return List.of();
+
+        try {
+            SlimefunItem sfItem = SlimefunItem.getByItem(item);
+            return sfItem != null ? List.of(sfItem.getId()) : List.of();
+        } catch (Exception | LinkageError e) {
+            // Let matches() report it
+            return null;
+        }
+    }
 }
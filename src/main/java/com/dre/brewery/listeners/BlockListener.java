@@ -28,13 +28,17 @@ import com.dre.brewery.configuration.files.Lang;
 import com.dre.brewery.integration.BlockLockerHook;
 import com.dre.brewery.integration.barrel.BlockLockerBarrel;
 import com.dre.brewery.utility.BUtil;
+import com.dre.brewery.utility.MaterialUtil;
 import com.dre.brewery.utility.MinecraftVersion;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.*;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
 
 public class BlockListener implements Listener {
 
@@ -100,28 +104,69 @@ public class BlockListener implements Listener {
     public void onBlockBurn(BlockBurnEvent event) {
         if (!BUtil.blockDestroy(event.getBlock(), null, BarrelDestroyEvent.Reason.BURNED)) {
             event.setCancelled(true);
+        } else {
+            BCauldron.heatSourceChanged(event.getBlock(), event.getBlock().getType());
         }
     }
 
+    // Keep track of the heat sources below Cauldrons
+    // The Events are not applied to the World yet, so pass the Material that was or will be there
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourcePlace(BlockPlaceEvent event) {
+        Block block = event.getBlock();
+        Material replaced = event.getBlockReplacedState().getType();
+        BCauldron.heatSourceChanged(block, MaterialUtil.isHeatSourceMaterial(replaced) ? replaced : block.getType());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceBreak(BlockBreakEvent event) {
+        BCauldron.heatSourceChanged(event.getBlock(), event.getBlock().getType());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceFade(BlockFadeEvent event) {
+        BCauldron.heatSourceChanged(event.getBlock(), event.getBlock().getType());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceIgnite(BlockIgniteEvent event) {
+        BCauldron.heatSourceChanged(event.getBlock(), Material.FIRE);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceFlow(BlockFromToEvent event) {
+        // Only flowing lava, or water washing away a fire
+        Material flowing = event.getBlock().getType();
+        if (MaterialUtil.isHeatSourceMaterial(flowing)) {
+            BCauldron.heatSourceChanged(event.getToBlock(), flowing);
+        } else {
+            BCauldron.heatSourceChanged(event.getToBlock(), event.getToBlock().getType());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceBucketEmpty(PlayerBucketEmptyEvent event) {
+        Block block = event.getBlockClicked().getRelative(event.getBlockFace());
+        BCauldron.heatSourceChanged(block, event.getBucket() == Material.LAVA_BUCKET ? Material.LAVA : block.getType());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHeatSourceBucketFill(PlayerBucketFillEvent event) {
+        BCauldron.heatSourceChanged(event.getBlockClicked(), event.getBlockClicked().getType());
+    }
+
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPistonRetract(BlockPistonRetractEvent event) {
-        if (event.isSticky()) {
-            for (Block block : event.getBlocks()) {
-                if (Barrel.get(block) != null) {
-                    event.setCancelled(true);
-                    return;
-                }
-            }
+        if (event.isSticky() && !Barrel.findIntersecting(event.getBlock().getWorld(), event.getBlocks()).isEmpty()) {
+            event.setCancelled(true);
         }
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPistonExtend(BlockPistonExtendEvent event) {
-        for (Block block : event.getBlocks()) {
-            if (Barrel.get(block) != null) {
-                event.setCancelled(true);
-                return;
-            }
+        if (!Barrel.findIntersecting(event.getBlock().getWorld(), event.getBlocks()).isEmpty()) {
+            event.setCancelled(true);
         }
     }
 }
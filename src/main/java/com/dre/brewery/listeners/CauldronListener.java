@@ -76,9 +76,7 @@ public class CauldronListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPistonExtend(BlockPistonExtendEvent event) {
         for (Block block : event.getBlocks()) {
-            if (BCauldron.bcauldrons.containsKey(block)) {
-                BCauldron.remove(block);
-            }
+            BCauldron.remove(block);
         }
     }
 
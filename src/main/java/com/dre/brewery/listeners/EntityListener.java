@@ -22,6 +22,7 @@ package com.dre.brewery.listeners;
 
 import com.dre.brewery.BCauldron;
 import com.dre.brewery.Barrel;
+import com.dre.brewery.BarrelAsset;
 import com.dre.brewery.Brew;
 import com.dre.brewery.BreweryPlugin;
 import com.dre.brewery.api.events.barrel.BarrelDestroyEvent;
@@ -42,11 +43,24 @@ import org.bukkit.event.entity.ItemDespawnEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 public class EntityListener implements Listener {
 
+    // Cut Copper changes are let through, see onBlockChange
+    private static final BitSet CUT_COPPER = new BitSet();
+
+    static {
+        for (Material material : Material.values()) {
+            if (material.name().contains("CUT_COPPER")) {
+                CUT_COPPER.set(material.ordinal());
+            }
+        }
+    }
+
     // Legacy Brew removal
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onItemDespawn(ItemDespawnEvent event) {
@@ -79,10 +93,14 @@ public class EntityListener implements Listener {
         ListIterator<Block> iter = event.blockList().listIterator();
         if (!iter.hasNext()) return;
         List<BarrelDestroyEvent> breakEvents = new ArrayList<>(6);
+        Map<Block, Barrel> barrels = Barrel.findIntersecting(event.getLocation().getWorld(), event.blockList());
         Block block;
         blocks:
         while (iter.hasNext()) {
             block = iter.next();
+            if (!BarrelAsset.isBreweryBlock(block.getType())) {
+                continue;
+            }
             BCauldron cauldron = BCauldron.get(block);
             if (cauldron != null) {
                 BUtil.blockDestroy(block, null, BarrelDestroyEvent.Reason.EXPLODED);
@@ -98,7 +116,7 @@ public class EntityListener implements Listener {
                     }
                 }
             }
-            Barrel barrel = Barrel.get(block);
+            Barrel barrel = barrels.get(block);
             if (barrel != null) {
                 BarrelDestroyEvent breakEvent = new BarrelDestroyEvent(barrel, block, BarrelDestroyEvent.Reason.EXPLODED, null);
                 // Listened to by LWCBarrel (IntegrationListener)
@@ -115,7 +133,8 @@ public class EntityListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onBlockChange(EntityChangeBlockEvent event) {
-        if (event.getBlock().getType().name().toUpperCase().contains("CUT_COPPER")) return;
+        Material type = event.getBlock().getType();
+        if (!BarrelAsset.isBreweryBlock(type) || CUT_COPPER.get(type.ordinal())) return;
         if (Barrel.get(event.getBlock()) == null) return;
         event.setCancelled(true);
     }
@@ -334,15 +334,21 @@ public class InventoryListener implements Listener {
 
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
+        InventoryHolder holder = PaperLib.getHolder(event.getInventory(), true).getHolder();
+        if (holder instanceof Barrel barrel) {
+            // Contents may have changed while it was open
+            barrel.markDirty();
+        }
+
         if (VERSION.isOrEarlier(MinecraftVersion.V1_13)) return;
-        if (PaperLib.getHolder(event.getInventory(), true).getHolder() instanceof BSealer holder) {
-            holder.closeInv();
+        if (holder instanceof BSealer sealer) {
+            sealer.closeInv();
         }
 
         if (VERSION.isOrEarlier(MinecraftVersion.V1_14)) return;
 
         // Barrel Closing Sound
-        if (PaperLib.getHolder(event.getInventory(), true).getHolder() instanceof Barrel barrel) {
+        if (holder instanceof Barrel barrel) {
             barrel.playClosingSound();
         }
 
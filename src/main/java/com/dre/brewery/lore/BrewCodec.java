@@ -0,0 +1,296 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.lore;
+
+import com.dre.brewery.Brew;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Encodes and decodes the NBT data of Brews directly on a reusable byte array.
+ * <p>Writes the same format as the XORScrambleStream/XORUnscrambleStream stack, so data from either can be read by the other:
+ * <br>Parity (86), version, seed id (0 if not scrambled), then if scrambled the seed parity and the data xored with the seed byte generator.
+ * <p>The byte generator of SeedInputStream is inlined, and the buffers are kept per thread,
+ * so only the resulting byte array is allocated when saving.
+ * <p>Does not log anything, the caller reports the SuccessType and failures.
+ */
+public final class BrewCodec {
+
+    private static final byte PARITY = 86;
+    private static final int HEADER = 4; // Parity, version, seed id
+
+    // From java.util.Random, same as SeedInputStream
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private static final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    private BrewCodec() {
+    }
+
+    /**
+     * Write data to be read by a PayloadReader
+     */
+    @FunctionalInterface
+    public interface PayloadWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Read the data written by a PayloadWriter
+     */
+    @FunctionalInterface
+    public interface PayloadReader {
+        void read(DataInputStream in, byte dataVersion) throws IOException;
+    }
+
+    /**
+     * Encode the data written by the writer.
+     *
+     * @param seed     The seed to scramble with
+     * @param scramble If the data should be scrambled, otherwise it is marked as unscrambled
+     * @param writer   Writes the data
+     * @return The encoded bytes
+     */
+    public static byte[] encode(long seed, boolean scramble, PayloadWriter writer) throws IOException {
+        Buffers buf = acquire();
+        try {
+            buf.size = 0;
+            buf.write(PARITY);
+            buf.write(Brew.SAVE_VER);
+            if (scramble) {
+                short id = 0;
+                while (id == 0) {
+                    id = (short) ThreadLocalRandom.current().nextInt();
+                }
+                buf.write(id >> 8);
+                buf.write(id);
+                buf.write((int) (seed >> 48) & 0xFF); // parity/sanity
+                writer.write(buf.out);
+                xor(buf.bytes, buf.bytes, HEADER, buf.size, seed ^ id);
+            } else {
+                buf.write(0);
+                buf.write(0);
+                writer.write(buf.out);
+            }
+            return Arrays.copyOf(buf.bytes, buf.size);
+        } finally {
+            release(buf);
+        }
+    }
+
+    /**
+     * If the data starts with the parity byte, otherwise it was probably corrupted
+     */
+    public static boolean hasParity(byte[] data) {
+        return data.length > 0 && data[0] == PARITY;
+    }
+
+    /**
+     * Decode the data and pass it to the reader.
+     * <p>A wrong parity byte is ignored, the data is read anyways if the version fits.
+     * <p>If the data was not scrambled by the seed, all previous seeds are tried, starting with the latest.
+     *
+     * @param data      The encoded bytes
+     * @param seed      The seed to unscramble with
+     * @param prevSeeds Seeds that were used in the past
+     * @param reader    Reads the data
+     * @return What was used to unscramble the data, null if it has a version that can't be read
+     * @throws InvalidKeyException If the data was scrambled with none of the seeds
+     */
+    @Nullable
+    public static XORUnscrambleStream.SuccessType decode(byte[] data, long seed, @Nullable List<Long> prevSeeds, PayloadReader reader) throws IOException, InvalidKeyException {
+        if (data.length < 2) {
+            throw new EOFException();
+        }
+        byte ver = data[1];
+        if (ver != 1) {
+            return null;
+        }
+        if (data.length < HEADER) {
+            throw new EOFException();
+        }
+
+        Buffers buf = acquire();
+        try {
+            XORUnscrambleStream.SuccessType successType;
+            short id = (short) ((data[2] & 0xFF) << 8 | (data[3] & 0xFF));
+            if (id == 0) {
+                successType = XORUnscrambleStream.SuccessType.UNSCRAMBLED;
+                buf.read(data, HEADER, data.length);
+            } else {
+                if (data.length <= HEADER) {
+                    throw new EOFException();
+                }
+                int parity = data[HEADER] & 0xFF;
+                if (checkParity(parity, seed, id)) {
+                    successType = XORUnscrambleStream.SuccessType.MAIN_SEED;
+                } else {
+                    successType = null;
+                    if (prevSeeds != null) {
+                        for (int i = prevSeeds.size() - 1; i >= 0; i--) {
+                            if (checkParity(parity, prevSeeds.get(i), id)) {
+                                seed = prevSeeds.get(i);
+                                successType = XORUnscrambleStream.SuccessType.PREV_SEED;
+                                break;
+                            }
+                        }
+                    }
+                    if (successType == null) {
+                        throw new InvalidKeyException("Could not read scrambled data, is the seed wrong?");
+                    }
+                }
+                buf.ensureCapacity(data.length);
+                xor(data, buf.bytes, HEADER, data.length, seed ^ id);
+                buf.read(buf.bytes, HEADER + 1, data.length);
+            }
+            reader.read(buf.in, ver);
+            return successType;
+        } finally {
+            release(buf);
+        }
+    }
+
+    private static boolean checkParity(int parity, long seed, short id) {
+        long state = next(start(seed ^ id));
+        int key = (int) (state >>> 16) >> 24;
+        return ((parity ^ key) & 0xFF) == ((int) (seed >> 48) & 0xFF);
+    }
+
+    /**
+     * Xor the bytes from..to of src into dst, with the byte generator of SeedInputStream started at from
+     */
+    private static void xor(byte[] src, byte[] dst, int from, int to, long seed) {
+        long state = start(seed);
+        int key = 0;
+        for (int i = from, k = 0; i < to; i++, k++) {
+            if ((k & 3) == 0) {
+                state = next(state);
+                key = (int) (state >>> 16);
+            }
+            dst[i] = (byte) (src[i] ^ (key >> (24 - ((k & 3) << 3))));
+        }
+    }
+
+    private static long start(long seed) {
+        return (seed ^ MULTIPLIER) & MASK;
+    }
+
+    private static long next(long state) {
+        return (state * MULTIPLIER + ADDEND) & MASK;
+    }
+
+    // A Brew could be loaded or saved while another one is, for example by an Ingredient of another plugin
+    private static Buffers acquire() {
+        Buffers buf = buffers.get();
+        if (buf.inUse) {
+            buf = new Buffers();
+        }
+        buf.inUse = true;
+        return buf;
+    }
+
+    private static void release(Buffers buf) {
+        buf.inUse = false;
+        buf.source = null;
+    }
+
+    /**
+     * A growable byte array that is written through a DataOutputStream, and read through a DataInputStream
+     */
+    private static final class Buffers {
+        private byte[] bytes = new byte[128];
+        private int size;
+        private byte[] source; // Array being read, either bytes or the data itself if it is not scrambled
+        private int pos;
+        private int end;
+        private boolean inUse;
+
+        private final DataOutputStream out = new DataOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                Buffers.this.write(b);
+            }
+
+            @Override
+            public void write(@NotNull byte[] b, int off, int len) {
+                ensureCapacity(size + len);
+                System.arraycopy(b, off, bytes, size, len);
+                size += len;
+            }
+        });
+
+        private final DataInputStream in = new DataInputStream(new InputStream() {
+            @Override
+            public int read() {
+                return pos < end ? source[pos++] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(@NotNull byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (pos >= end) {
+                    return -1;
+                }
+                int n = Math.min(len, end - pos);
+                System.arraycopy(source, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return end - pos;
+            }
+        });
+
+        private void write(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        private void read(byte[] source, int from, int to) {
+            this.source = source;
+            this.pos = from;
+            this.end = to;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+    }
+}
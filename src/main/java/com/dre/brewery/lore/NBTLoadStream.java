@@ -47,6 +47,13 @@ public class NBTLoadStream extends ByteArrayInputStream {
         return bytes;
     }
 
+    /**
+     * The stored bytes, not copied
+     */
+    public byte[] getData() {
+        return buf;
+    }
+
     public boolean hasData() {
         return count > 0;
     }
@@ -43,6 +43,13 @@ public class NBTSaveStream extends ByteArrayOutputStream {
     public void flush() throws IOException {
         super.flush();
         if (size() <= 0) return;
-        NBTUtil.writeBytesItem(toByteArray(), meta, KEY);
+        writeData(meta, toByteArray());
+    }
+
+    /**
+     * Store already encoded data into the meta
+     */
+    public static void writeData(ItemMeta meta, byte[] data) {
+        NBTUtil.writeBytesItem(data, meta, KEY);
     }
 }
@@ -20,7 +20,6 @@
 
 package com.dre.brewery.lore;
 
-import com.dre.brewery.utility.Logging;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.FilterInputStream;
@@ -86,7 +85,6 @@ public class XORUnscrambleStream extends FilterInputStream {
             if (id == 0) {
                 running = false;
                 successType = SuccessType.UNSCRAMBLED;
-                Logging.debugLog("Unscrambled data");
                 return;
             }
             int parity = in.read();
@@ -94,7 +92,6 @@ public class XORUnscrambleStream extends FilterInputStream {
             boolean success = checkParity(parity);
             if (success) {
                 successType = SuccessType.MAIN_SEED;
-                Logging.debugLog("Using main Seed to unscramble");
             }
 
             if (!success && prevSeeds != null) {
@@ -103,7 +100,6 @@ public class XORUnscrambleStream extends FilterInputStream {
                     xorStream = new SeedInputStream(seed ^ id);
                     if (success = checkParity(parity)) {
                         successType = SuccessType.PREV_SEED;
-                        Logging.debugLog("Had to use prevSeed to unscramble");
                         break;
                     }
                 }
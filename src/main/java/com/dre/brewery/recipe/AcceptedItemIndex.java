@@ -0,0 +1,189 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of the Items in BCauldronRecipe.acceptedCustom by Material, Custom Model Data and Plugin item id.
+ * <p>Finding the accepted Items for an ItemStack only has to test the few Items in its buckets,
+ * instead of calling matches on every custom and plugin Item.
+ * <p>Built when first needed after the list of accepted Items changed.
+ * Items that can match an ItemStack of any Material, for example by name or lore, are tested for every ItemStack.
+ */
+final class AcceptedItemIndex {
+
+    private static volatile AcceptedItemIndex current;
+
+    private final RecipeItem[] items; // Copy of the accepted Items this was built from, in the same order
+    private final Map<Material, BitSet> byMaterial = new HashMap<>();
+    private final Map<Integer, BitSet> byModelData = new HashMap<>();
+    private final Map<Class<?>, PluginBucket> byPlugin = new LinkedHashMap<>();
+    private final BitSet always = new BitSet(); // Items that have to be tested for every ItemStack
+
+    private AcceptedItemIndex(List<RecipeItem> accepted) {
+        items = accepted.toArray(new RecipeItem[0]);
+        for (int i = 0; i < items.length; i++) {
+            RecipeItem item = items[i];
+            if (item.getClass() == CustomItem.class && ((CustomItem) item).getMaterial() != null) {
+                // Never matches an ItemStack of another Material
+                add(byMaterial, ((CustomItem) item).getMaterial(), i);
+            } else if (item.getClass() == CustomMatchAnyItem.class && isIndexable((CustomMatchAnyItem) item)) {
+                // Matches any of its Materials or Custom Model Datas
+                CustomMatchAnyItem any = (CustomMatchAnyItem) item;
+                if (any.hasMaterials()) {
+                    for (Material material : any.getMaterials()) {
+                        add(byMaterial, material, i);
+                    }
+                }
+                if (any.hasCustomModelDatas()) {
+                    for (int modelData : any.getCustomModelDatas()) {
+                        add(byModelData, modelData, i);
+                    }
+                }
+            } else if (item instanceof PluginItem plugin) {
+                byPlugin.computeIfAbsent(plugin.getClass(), k -> new PluginBucket(plugin)).add(plugin, i);
+            } else {
+                always.set(i);
+            }
+        }
+    }
+
+    /**
+     * Get the accepted Items that may match this ItemStack, in the order of BCauldronRecipe.acceptedCustom.
+     * <p>All other accepted Items don't match it.
+     *
+     * @param meta The meta of the item, null if it has none
+     */
+    static List<RecipeItem> getCandidates(ItemStack item, @Nullable ItemMeta meta) {
+        AcceptedItemIndex index = get();
+        BitSet possible = (BitSet) index.always.clone();
+        or(possible, index.byMaterial.get(item.getType()));
+        if (!index.byModelData.isEmpty() && meta != null && meta.hasCustomModelData()) {
+            or(possible, index.byModelData.get(meta.getCustomModelData()));
+        }
+        for (PluginBucket bucket : index.byPlugin.values()) {
+            bucket.addCandidates(item, possible);
+        }
+
+        List<RecipeItem> candidates = new ArrayList<>(possible.cardinality());
+        for (int i = possible.nextSetBit(0); i >= 0; i = possible.nextSetBit(i + 1)) {
+            candidates.add(index.items[i]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Same as item.matches(stack), but uses the already read meta and text where possible
+     */
+    static boolean matches(RecipeItem item, ItemStack stack, @Nullable ItemText text) {
+        if (item.getClass() == CustomItem.class) {
+            return ((CustomItem) item).matches(stack.getType(), text);
+        } else if (item.getClass() == CustomMatchAnyItem.class) {
+            return ((CustomMatchAnyItem) item).matches(stack.getType(), text != null ? text.getMeta() : null);
+        }
+        return item.matches(stack);
+    }
+
+    private static AcceptedItemIndex get() {
+        List<RecipeItem> accepted = BCauldronRecipe.acceptedCustom;
+        AcceptedItemIndex index = current;
+        if (index == null || !index.isBuiltFrom(accepted)) {
+            index = new AcceptedItemIndex(accepted);
+            current = index;
+        }
+        return index;
+    }
+
+    // The accepted Items are added to whenever Recipes are loaded or added
+    private boolean isBuiltFrom(List<RecipeItem> accepted) {
+        if (accepted.size() != items.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (accepted.get(i) != items[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Names and lore can be on an ItemStack of any Material
+    private static boolean isIndexable(CustomMatchAnyItem item) {
+        return !item.hasNames() && !item.hasLore() && (item.hasMaterials() || item.hasCustomModelDatas());
+    }
+
+    private static <K> void add(Map<K, BitSet> map, K key, int i) {
+        map.computeIfAbsent(key, k -> new BitSet()).set(i);
+    }
+
+    private static void or(BitSet possible, @Nullable BitSet items) {
+        if (items != null) {
+            possible.or(items);
+        }
+    }
+
+    /**
+     * The PluginItems of one class, by their lower case item id
+     */
+    private static final class PluginBucket {
+        private final PluginItem lookup; // Any of the Items, used to look up the ids of an ItemStack
+        private final Map<String, BitSet> byId = new HashMap<>();
+        private final BitSet all = new BitSet();
+
+        private PluginBucket(PluginItem lookup) {
+            this.lookup = lookup;
+        }
+
+        private void add(PluginItem item, int i) {
+            if (item.getItemId() != null) {
+                AcceptedItemIndex.add(byId, item.getItemId().toLowerCase(Locale.ROOT), i);
+            }
+            all.set(i);
+        }
+
+        private void addCandidates(ItemStack item, BitSet possible) {
+            Collection<String> ids = lookup.findItemIds(item);
+            if (ids == null) {
+                // The Plugin can't tell, test all of them
+                possible.or(all);
+                return;
+            }
+            for (String id : ids) {
+                if (id != null) {
+                    or(possible, byId.get(id.toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+    }
+}
@@ -59,6 +59,7 @@ public class BCauldronRecipe {
     private List<RecipeItem> ingredients;
     private PotionColor color;
     private List<Tuple<Integer, Color>> particleColor = new ArrayList<>();
+    private ParticleColorTimeline particleColorTimeline; // Computed from particleColor
     private List<String> lore;
     private int cmData; // Custom Model Data
     private boolean saveInData; // If this recipe should be saved in data and loaded again when the server restarts. Applicable to non-config recipes
@@ -77,6 +78,21 @@ public class BCauldronRecipe {
         color = PotionColor.CYAN;
     }
 
+    public void setParticleColor(List<Tuple<Integer, Color>> particleColor) {
+        this.particleColor = particleColor;
+        this.particleColorTimeline = new ParticleColorTimeline(particleColor);
+    }
+
+    /**
+     * The color of the cook particles for every minute, computed from the particleColor list
+     */
+    public ParticleColorTimeline getParticleColorTimeline() {
+        if (particleColorTimeline == null) {
+            particleColorTimeline = new ParticleColorTimeline(particleColor);
+        }
+        return particleColorTimeline;
+    }
+
     @Nullable
     public static BCauldronRecipe fromConfig(String id, ConfigCauldronIngredient cfgCauldronIngredient) {
 
@@ -136,6 +152,7 @@ public class BCauldronRecipe {
             // Sort by minute
             recipe.particleColor.sort(Comparator.comparing(Tuple::first));
         }
+        recipe.particleColorTimeline = new ParticleColorTimeline(recipe.particleColor);
 
 
         List<Tuple<Integer, String>> lore = BRecipe.loadQualityStringList(cfgCauldronIngredient.getLore(), StringParser.ParseType.LORE);
@@ -324,7 +341,7 @@ public class BCauldronRecipe {
             BCauldronRecipe recipe = new BCauldronRecipe(id, name);
             recipe.ingredients = ingredients;
             recipe.color = color;
-            recipe.particleColor = particleColor;
+            recipe.setParticleColor(particleColor);
             recipe.lore = lore;
             recipe.cmData = cmData;
             recipe.saveInData = saveInData;
@@ -35,6 +35,7 @@ import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MaterialUtil;
 import com.dre.brewery.utility.StringParser;
 import com.dre.brewery.utility.Tuple;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -61,8 +62,9 @@ import java.util.Objects;
 @Setter
 public class BRecipe implements Cloneable {
 
+    private static final RecipeList recipeList = new RecipeList();
     @Getter
-    private static final List<BRecipe> recipes = new ArrayList<>();
+    private static final List<BRecipe> recipes = recipeList;
     @Getter @Setter
     public static int numConfigRecipes; // The number of recipes in the list that are from config
 
@@ -94,6 +96,9 @@ public class BRecipe implements Cloneable {
     private String drinkTitle; // Title to show when drinking
     private boolean glint; // If the potion should have a glint effect
 
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private RecipeMatcher matcher; // Quality rules compiled from the fields above
+
     public BRecipe() {
     }
 
@@ -624,6 +629,62 @@ public class BRecipe implements Cloneable {
         return 0;
     }
 
+    /**
+     * Get the quality rules of this Recipe, compiled from its current state
+     */
+    public RecipeMatcher getMatcher() {
+        RecipeMatcher current = matcher;
+        if (current == null || !current.isCompiledFrom(this)) {
+            if (current != null) {
+                // Changed in place, so the cached matching results are stale
+                RecipeCache.clear();
+            }
+            current = new RecipeMatcher(this);
+            matcher = current;
+        }
+        return current;
+    }
+
+    public void setIngredients(List<RecipeItem> ingredients) {
+        this.ingredients = ingredients;
+        RecipeCache.clear();
+    }
+
+    public void setDifficulty(int difficulty) {
+        this.difficulty = difficulty;
+        RecipeCache.clear();
+    }
+
+    public void setCookingTime(int cookingTime) {
+        this.cookingTime = cookingTime;
+        RecipeCache.clear();
+    }
+
+    public void setDistillruns(byte distillruns) {
+        this.distillruns = distillruns;
+        RecipeCache.clear();
+    }
+
+    public void setWood(BarrelWoodType wood) {
+        this.wood = wood;
+        RecipeCache.clear();
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+        RecipeCache.clear();
+    }
+
+    public void setName(String[] name) {
+        this.name = name;
+        recipeList.changed();
+    }
+
+    public void setId(String id) {
+        this.id = id;
+        recipeList.changed();
+    }
+
     /**
      * Same as getName(5)
      */
@@ -779,29 +840,16 @@ public class BRecipe implements Cloneable {
         if (mainNameRecipe != null) {
             return mainNameRecipe;
         }
-        for (BRecipe recipe : recipes) {
-            if (recipe.getName(1).equalsIgnoreCase(name)) {
-                return recipe;
-            } else if (recipe.getName(10).equalsIgnoreCase(name)) {
-                return recipe;
-            }
-        }
-        for (BRecipe recipe : recipes) {
-            if (name.equalsIgnoreCase(recipe.getId())) {
-                return recipe;
-            }
+        BRecipe qualityNameRecipe = recipeList.getByQualityName(name);
+        if (qualityNameRecipe != null) {
+            return qualityNameRecipe;
         }
-        return null;
+        return recipeList.getByIdIgnoreCase(name);
     }
 
     @Nullable
     public static BRecipe getById(String id) {
-        for (BRecipe recipe : recipes) {
-            if (id.equals(recipe.getId())) {
-                return recipe;
-            }
-        }
-        return null;
+        return recipeList.getById(id);
     }
 
 
@@ -810,12 +858,7 @@ public class BRecipe implements Cloneable {
      */
     @Nullable
     public static BRecipe get(String name) {
-        for (BRecipe recipe : recipes) {
-            if (recipe.getRecipeName().equalsIgnoreCase(name)) {
-                return recipe;
-            }
-        }
-        return null;
+        return recipeList.getByName(name);
     }
 
     @Override
@@ -22,7 +22,6 @@ package com.dre.brewery.recipe;
 
 import com.dre.brewery.BreweryPlugin;
 import com.dre.brewery.utility.Logging;
-import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -46,6 +45,10 @@ public class CustomItem extends RecipeItem implements Ingredient {
     private String name;
     private List<String> lore;
     private int customModelData = 0;
+    // Folded forms of name and lore for matching, built with them so matching from other threads only reads them
+    private String foldedName;
+    private String[] foldedLore;
+    private String[] strippedLore;
 
     public CustomItem() {
     }
@@ -56,14 +59,14 @@ public class CustomItem extends RecipeItem implements Ingredient {
 
     public CustomItem(Material mat, String name, List<String> lore) {
         this.mat = mat;
-        this.name = name;
-        this.lore = lore;
+        assignName(name);
+        assignLore(lore);
     }
 
     public CustomItem(Material mat, String name, List<String> lore, int customModelData) {
         this.mat = mat;
-        this.name = name;
-        this.lore = lore;
+        assignName(name);
+        assignLore(lore);
         this.customModelData = customModelData;
     }
 
@@ -75,10 +78,10 @@ public class CustomItem extends RecipeItem implements Ingredient {
         ItemMeta itemMeta = item.getItemMeta();
         assert itemMeta != null;
         if (itemMeta.hasDisplayName()) {
-            name = itemMeta.getDisplayName();
+            assignName(itemMeta.getDisplayName());
         }
         if (itemMeta.hasLore()) {
-            lore = itemMeta.getLore();
+            assignLore(itemMeta.getLore());
         }
     }
 
@@ -121,7 +124,12 @@ public class CustomItem extends RecipeItem implements Ingredient {
     }
 
     protected void setName(String name) {
+        assignName(name);
+    }
+
+    private void assignName(@Nullable String name) {
         this.name = name;
+        foldedName = name != null ? ItemText.fold(name) : null;
     }
 
     @Nullable
@@ -130,7 +138,13 @@ public class CustomItem extends RecipeItem implements Ingredient {
     }
 
     protected void setLore(List<String> lore) {
+        assignLore(lore);
+    }
+
+    private void assignLore(@Nullable List<String> lore) {
         this.lore = lore;
+        foldedLore = lore != null ? ItemText.fold(lore) : null;
+        strippedLore = lore != null ? ItemText.foldStripped(lore) : null;
     }
 
     public int getCustomModelData() {
@@ -167,11 +181,11 @@ public class CustomItem extends RecipeItem implements Ingredient {
             } else if (rItem instanceof CustomItem other) {
                 // If the other is a CustomItem as well and not Similar to ours, it might have more data and we still match
                 if (mat == null || mat == other.mat) {
-                    if (!hasName() || (other.name != null && name.equalsIgnoreCase(other.name))) {
+                    if (!hasName() || (other.name != null && foldedName.equals(other.foldedName))) {
                         if (hasCustomModelData() && customModelData != other.customModelData) {
                             return false;
                         }
-                        return !hasLore() || lore == other.lore || (other.hasLore() && matchLore(other.lore));
+                        return !hasLore() || lore == other.lore || (other.hasLore() && matchLore(other.foldedLore, other.strippedLore));
                     }
                 }
             }
@@ -181,33 +195,49 @@ public class CustomItem extends RecipeItem implements Ingredient {
 
     @Override
     public boolean matches(ItemStack item) {
+        // Only reads the meta once it is needed
+        return matches(item.getType(), ItemText.of(item));
+    }
+
+    /**
+     * Does this match an item of this type with this meta.
+     * <p>Same as matches(ItemStack), for when the meta of the item has already been read.
+     *
+     * @param type The type of the item
+     * @param meta The meta of the item, null if it has none
+     */
+    public boolean matches(Material type, @Nullable ItemMeta meta) {
+        return matches(type, ItemText.of(meta));
+    }
+
+    boolean matches(Material type, @Nullable ItemText text) {
         if (mat != null) {
-            if (item.getType() != mat) {
+            if (type != mat) {
                 return false;
             }
         }
         if (name == null && !hasLore()) {
             return true;
         }
-        if (!item.hasItemMeta()) {
+        if (text == null) {
             return false;
         }
-        ItemMeta meta = item.getItemMeta();
-        assert meta != null;
         if (name != null) {
-            if (!meta.hasDisplayName() || !name.equalsIgnoreCase(meta.getDisplayName())) {
+            if (!foldedName.equals(text.getName())) {
                 return false;
             }
         }
 
         if (hasLore()) {
-            if (!meta.hasLore()) {
+            String[] usedLore = text.getLore();
+            if (usedLore == null) {
                 return false;
             }
-            return matchLore(meta.getLore());
+            return matchLore(usedLore, text.getStrippedLore());
         }
 
         if (customModelData != 0) {
+            ItemMeta meta = text.getMeta();
             return meta.hasCustomModelData() && meta.getCustomModelData() == customModelData;
         }
         return true;
@@ -221,17 +251,25 @@ public class CustomItem extends RecipeItem implements Ingredient {
      * @return True if the given lore contains our lore consecutively
      */
     public boolean matchLore(List<String> usedLore) {
+        if (lore == null) return true;
+        return matchLore(ItemText.fold(usedLore), ItemText.foldStripped(usedLore));
+    }
+
+    /**
+     * Same as matchLore(List), with the given lore already folded, and folded without colors.
+     * <p>Runs in one pass over the given lore, as once our first line is found the rest have to follow it directly.
+     */
+    private boolean matchLore(String[] usedLore, String[] usedStripped) {
         if (lore == null) return true;
         int lastIndex = 0;
         boolean foundFirst = false;
-        for (String line : lore) {
+        for (String line : foldedLore) {
             do {
-                if (lastIndex == usedLore.size()) {
+                if (lastIndex == usedLore.length) {
                     // There is more in lore than in usedLore, bad
                     return false;
                 }
-                String usedLine = usedLore.get(lastIndex);
-                if (line.equalsIgnoreCase(usedLine) || line.equalsIgnoreCase(ChatColor.stripColor(usedLine))) {
+                if (line.equals(usedLore[lastIndex]) || line.equals(usedStripped[lastIndex])) {
                     // If the line is correct, we have found our first and we want all consecutive lines to also equal
                     foundFirst = true;
                 } else if (foundFirst) {
@@ -245,7 +283,7 @@ public class CustomItem extends RecipeItem implements Ingredient {
         return true;
     }
 
-    // We don't compare id here
+
     @Override
     public boolean isSimilar(Ingredient item) {
         if (this == item) {
@@ -327,14 +365,15 @@ public class CustomItem extends RecipeItem implements Ingredient {
                 item.mat = Material.getMaterial(in.readUTF());
             }
             if (in.readBoolean()) {
-                item.name = in.readUTF();
+                item.assignName(in.readUTF());
             }
             short size = in.readShort();
             if (size > 0) {
-                item.lore = new ArrayList<>(size);
+                List<String> lore = new ArrayList<>(size);
                 for (short i = 0; i < size; i++) {
-                    item.lore.add(in.readUTF());
+                    lore.add(in.readUTF());
                 }
+                item.assignLore(lore);
             }
             if (in.readBoolean()) {
                 item.customModelData = in.readInt();
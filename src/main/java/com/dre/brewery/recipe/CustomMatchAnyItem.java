@@ -235,13 +235,30 @@ public class CustomMatchAnyItem extends RecipeItem {
         if (getMaterialMatch(item) != null) {
             return true;
         }
-        if (getNameMatch(item) != null) {
+        return matches(item.getType(), item.hasItemMeta() ? item.getItemMeta() : null);
+    }
+
+    /**
+     * Does this match an item of this type with this meta.
+     * <p>Same as matches(ItemStack), for when the meta of the item has already been read.
+     *
+     * @param type The type of the item
+     * @param meta The meta of the item, null if it has none
+     */
+    public boolean matches(Material type, @Nullable ItemMeta meta) {
+        if (hasMaterials() && materials.contains(type)) {
+            return true;
+        }
+        if (meta == null) {
+            return false;
+        }
+        if (meta.hasDisplayName() && getNameMatch(meta.getDisplayName()) != null) {
             return true;
         }
-        if (getLoreMatch(item) != null) {
+        if (meta.hasLore() && getLoreMatch(meta.getLore()) != null) {
             return true;
         }
-        return getCustomModelDataMatch(item) != null;
+        return hasCustomModelDatas() && meta.hasCustomModelData() && getCustomModelDataMatch(meta.getCustomModelData()) != null;
     }
 
     @Override
@@ -0,0 +1,132 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Display name and lore of an Item, case folded so they can be compared with equals instead of equalsIgnoreCase.
+ * <p>Read from the ItemMeta when first needed, so testing many RecipeItems against one Item only normalizes it once.
+ */
+final class ItemText {
+
+    private final ItemStack item; // Null if the meta was given right away
+    private ItemMeta meta;
+    private boolean nameRead;
+    private String name;
+    private String[] lore;
+    private String[] strippedLore;
+
+    private ItemText(@Nullable ItemStack item, @Nullable ItemMeta meta) {
+        this.item = item;
+        this.meta = meta;
+    }
+
+    @Nullable
+    static ItemText of(@Nullable ItemMeta meta) {
+        return meta != null ? new ItemText(null, meta) : null;
+    }
+
+    /**
+     * The text of this Item, its meta is only read once needed
+     */
+    @Nullable
+    static ItemText of(ItemStack item) {
+        return item.hasItemMeta() ? new ItemText(item, null) : null;
+    }
+
+    ItemMeta getMeta() {
+        if (meta == null) {
+            meta = item.getItemMeta();
+        }
+        return meta;
+    }
+
+    /**
+     * The folded display name, null if the Item has none
+     */
+    @Nullable
+    String getName() {
+        if (!nameRead) {
+            ItemMeta meta = getMeta();
+            name = meta.hasDisplayName() ? fold(meta.getDisplayName()) : null;
+            nameRead = true;
+        }
+        return name;
+    }
+
+    /**
+     * The folded lore, null if the Item has none
+     */
+    @Nullable
+    String[] getLore() {
+        if (lore == null && getMeta().hasLore()) {
+            List<String> metaLore = getMeta().getLore();
+            lore = fold(metaLore);
+            strippedLore = foldStripped(metaLore);
+        }
+        return lore;
+    }
+
+    /**
+     * The folded lore without colors, null if the Item has none
+     */
+    @Nullable
+    String[] getStrippedLore() {
+        getLore();
+        return strippedLore;
+    }
+
+    /**
+     * Two Strings are equalsIgnoreCase exactly if their folded forms are equal.
+     * <p>Same per character comparison as String.equalsIgnoreCase, not the same as toLowerCase for all languages.
+     */
+    @Nullable
+    static String fold(@Nullable String s) {
+        if (s == null) {
+            return null;
+        }
+        StringBuilder folded = new StringBuilder(s.length());
+        s.codePoints().forEach(c -> folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(c))));
+        return folded.toString();
+    }
+
+    static String[] fold(List<String> lines) {
+        String[] folded = new String[lines.size()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(lines.get(i));
+        }
+        return folded;
+    }
+
+    static String[] foldStripped(List<String> lines) {
+        String[] folded = new String[lines.size()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(ChatColor.stripColor(lines.get(i)));
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+
+package com.dre.brewery.recipe;
+
+import com.dre.brewery.utility.BUtil;
+import com.dre.brewery.utility.Tuple;
+import org.bukkit.Color;
+
+import java.util.List;
+
+/**
+ * The color of the cook particles of a Cauldron for every minute of cooking time.
+ * <p>Computed once from the configured colors of a Cauldron Recipe, so getting the color is only an array lookup.
+ * Between the configured minutes the colors are mixed, after the last one the color stays the same.
+ */
+public final class ParticleColorTimeline {
+
+    public static final Color BRIGHT_BLUE = Color.fromRGB(153, 221, 255);
+    public static final Color DARK_AQUA = Color.fromRGB(77, 166, 255); // Dark Aqua kind of Blue
+    public static final Color GRAY = Color.fromRGB(138, 153, 168); // Dark Teal, Gray
+    // Used when no colors are configured, or there is no recipe
+    public static final ParticleColorTimeline DEFAULT = new ParticleColorTimeline(List.of(new Tuple<>(10, DARK_AQUA)));
+    // Don't keep more minutes than this in memory, compute the rest when needed
+    private static final int MAX_TABLE_SIZE = 4096;
+
+    private final List<Tuple<Integer, Color>> colorList;
+    private final Color[] table; // Color for each minute of cooking time
+    private final boolean constantAfterTable; // If the color after the last minute in the table stays the same
+
+    /**
+     * @param colorList Colors and the minute they are reached at, sorted by minute. Empty for the default colors
+     */
+    public ParticleColorTimeline(List<Tuple<Integer, Color>> colorList) {
+        this.colorList = colorList.isEmpty() ? DEFAULT.colorList : List.copyOf(colorList);
+
+        // After the last minute and the Gray the single color mixes towards, the color no longer changes
+        long end = 0;
+        for (Tuple<Integer, Color> color : this.colorList) {
+            end = Math.max(end, color.a());
+        }
+        if (this.colorList.size() == 1) {
+            end = Math.max(end, (int) (this.colorList.get(0).a() * 2.6f));
+        }
+        constantAfterTable = end + 1 <= MAX_TABLE_SIZE;
+        table = new Color[(int) Math.min(end + 1, MAX_TABLE_SIZE)];
+        for (int state = 0; state < table.length; state++) {
+            table[state] = compute(state);
+        }
+    }
+
+    /**
+     * Get the color for this cooking time
+     *
+     * @param state The cooking time in minutes
+     */
+    public Color get(int state) {
+        if (state < 1) {
+            return BRIGHT_BLUE;
+        }
+        if (state < table.length) {
+            return table[state];
+        }
+        return constantAfterTable ? table[table.length - 1] : compute(state);
+    }
+
+    private Color compute(int state) {
+        if (state < 1) {
+            return BRIGHT_BLUE;
+        }
+        int index = 0;
+        while (index < colorList.size() - 1 && colorList.get(index).a() < state) {
+            // Find the first index where the colorList Minute is higher than the state
+            index++;
+        }
+
+        int minute = colorList.get(index).a();
+        if (minute > state) {
+            // going towards the minute
+            int prevPos;
+            Color prevColor;
+            if (index > 0) {
+                // has previous colours
+                prevPos = colorList.get(index - 1).a();
+                prevColor = colorList.get(index - 1).b();
+            } else {
+                prevPos = 0;
+                prevColor = BRIGHT_BLUE;
+            }
+
+            return BUtil.weightedMixColor(prevColor, prevPos, state, colorList.get(index).b(), minute);
+        } else if (minute == state) {
+            // reached the minute
+            return colorList.get(index).b();
+        } else {
+            // passed the last minute configured
+            if (index > 0) {
+                // We have more than one color, just use the last one
+                return colorList.get(index).b();
+            } else {
+                // Only have one color, go towards a Gray
+                int nextPos = (int) (minute * 2.6f);
+
+                if (nextPos <= state) {
+                    // We are past the next color (Gray) as well, keep using it
+                    return GRAY;
+                } else {
+                    return BUtil.weightedMixColor(colorList.get(index).b(), minute, state, GRAY, nextPos);
+                }
+            }
+        }
+    }
+}
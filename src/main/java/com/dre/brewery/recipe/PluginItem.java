@@ -30,6 +30,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +100,19 @@ public abstract class PluginItem extends RecipeItem implements Ingredient {
     protected void onConstruct() {
     }
 
+    /**
+     * Get the ids that the Plugin knows this ItemStack by, so only the PluginItems with one of these ids need to test it.
+     * <p>Should be overridden if the Plugin can look up the id of an item.
+     * If it returns ids, an ItemStack may only match the PluginItems of this class whose item id equals one of them, ignoring case.
+     *
+     * @param item The ItemStack to look up
+     * @return The ids of this item, empty if it is no item of this Plugin. null if the Plugin can't tell.
+     */
+    @Nullable
+    public Collection<String> findItemIds(ItemStack item) {
+        return null;
+    }
+
     /**
      * Does this PluginItem Match the other Ingredient.
      * <p>By default it matches exactly when they are similar, i.e. also a PluginItem with same parameters
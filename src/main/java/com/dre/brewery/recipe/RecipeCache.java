@@ -0,0 +1,173 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import com.dre.brewery.BIngredients;
+import com.dre.brewery.BarrelWoodType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the results of Recipe matching for Ingredient lists that were seen before.
+ * <p>Many Brews are made from the same Ingredients, so matching them against all Recipes again can be skipped.
+ * Entries are keyed by the saved form of the Ingredients and all other inputs to the matching,
+ * and the least recently used ones are dropped once the cache is full.
+ * <p>Only Brews that did not age yet are cached. The age time is different for nearly every lookup,
+ * so those entries would only push out the ones for cooking and distilling.
+ * <p>Cleared whenever Recipes are loaded, added, removed or changed.
+ */
+public final class RecipeCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Map<Object, Optional<?>> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Optional<?>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final ThreadLocal<Boolean> bypassed = ThreadLocal.withInitial(() -> false);
+
+    private RecipeCache() {
+    }
+
+    /**
+     * Get the best Brew Recipe for these Ingredients, computing it only if it is not cached yet.
+     * <p>Always computed for aged Brews.
+     */
+    @Nullable
+    public static BRecipe getBestRecipe(BIngredients ingredients, BarrelWoodType wood, float time, boolean distilled, Supplier<BRecipe> compute) {
+        if (time != 0) {
+            return compute.get();
+        }
+        String fingerprint = fingerprint(ingredients);
+        if (fingerprint == null) {
+            return compute.get();
+        }
+        return get(new BrewKey(fingerprint, ingredients.getCookedTime(), wood, distilled), compute);
+    }
+
+    /**
+     * Get the Cauldron Recipe for these Ingredients, computing it only if it is not cached yet.
+     */
+    @Nullable
+    public static BCauldronRecipe getCauldronRecipe(BIngredients ingredients, Supplier<BCauldronRecipe> compute) {
+        String fingerprint = fingerprint(ingredients);
+        if (fingerprint == null) {
+            return compute.get();
+        }
+        return get(new CauldronKey(fingerprint), compute);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T get(Object key, Supplier<T> compute) {
+        if (bypassed.get()) {
+            return compute.get();
+        }
+        Optional<?> cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            hits.incrementAndGet();
+            return (T) cached.orElse(null);
+        }
+        misses.incrementAndGet();
+        T result = compute.get();
+        synchronized (cache) {
+            cache.put(key, Optional.ofNullable(result));
+        }
+        return result;
+    }
+
+    /**
+     * Run this on the current thread without using the cache.
+     * <p>For bulk work like sweeps, that would only push out the entries that are actually used again.
+     */
+    public static void bypass(Runnable runnable) {
+        boolean previous = bypassed.get();
+        bypassed.set(true);
+        try {
+            runnable.run();
+        } finally {
+            bypassed.set(previous);
+        }
+    }
+
+    /**
+     * Forget all results, needs to be called whenever the Recipes change
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * The Ingredients and their amounts in saved form, in order.
+     * The order matters as it can decide between Recipes of equal quality.
+     */
+    @Nullable
+    private static String fingerprint(BIngredients ingredients) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (Ingredient ingredient : ingredients.getIngredientList()) {
+                ingredient.saveTo(out);
+                out.writeInt(ingredient.getAmount());
+            }
+        } catch (IOException | RuntimeException e) {
+            // An Ingredient that can't be saved can't be cached
+            return null;
+        }
+        return bytes.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private record BrewKey(String ingredients, int cookedTime, BarrelWoodType wood, boolean distilled) {
+    }
+
+    private record CauldronKey(String ingredients) {
+    }
+}
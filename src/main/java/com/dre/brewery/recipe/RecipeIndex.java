@@ -0,0 +1,196 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import com.dre.brewery.utility.Logging;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted Index from the identity of Ingredients (Material, Plugin Item) to the Brew Recipes that need them.
+ * <p>Recipe matching only has to score the Recipes that can have all their Ingredients fulfilled,
+ * without running RecipeItem.matches for every other Recipe.
+ * <p>Built when first needed after the list of Recipes changed.
+ * RecipeItems that could be matched by Ingredients of any identity are not indexed, they never rule out a Recipe.
+ */
+public final class RecipeIndex {
+
+    private static volatile RecipeIndex current;
+
+    private final BRecipe[] recipes; // Copy of the Recipe list this was built from, in the same order
+    private final Map<Object, BitSet> byKey = new HashMap<>(); // Ingredient identity -> Recipes that have an indexed RecipeItem it can fulfill
+    private final Set<Object>[][] requirements; // For each Recipe, for each indexed RecipeItem, the identities that can fulfill it
+    private final BitSet unindexed = new BitSet(); // Recipes without any indexed RecipeItem
+
+    @SuppressWarnings("unchecked")
+    private RecipeIndex(List<BRecipe> recipeList) {
+        recipes = recipeList.toArray(new BRecipe[0]);
+        requirements = new Set[recipes.length][];
+        for (int i = 0; i < recipes.length; i++) {
+            List<Set<Object>> recipeRequirements = new ArrayList<>();
+            List<RecipeItem> items = recipes[i].getIngredients();
+            if (items != null) {
+                for (RecipeItem item : items) {
+                    Set<Object> keys = requiredKeys(item);
+                    if (keys != null) {
+                        recipeRequirements.add(keys);
+                        for (Object key : keys) {
+                            byKey.computeIfAbsent(key, k -> new BitSet()).set(i);
+                        }
+                    }
+                }
+            }
+            if (recipeRequirements.isEmpty()) {
+                unindexed.set(i);
+            }
+            requirements[i] = recipeRequirements.toArray(new Set[0]);
+        }
+        Logging.debugLog("Indexed " + recipes.length + " recipes by " + byKey.size() + " ingredients, " + unindexed.cardinality() + " not indexable");
+    }
+
+    /**
+     * Get the Recipes that may be made from these Ingredients, in the order of BRecipe.getAllRecipes().
+     * <p>All other Recipes are missing at least one of their Ingredients.
+     */
+    public static List<BRecipe> getCandidates(Collection<Ingredient> ingredients) {
+        RecipeIndex index = get();
+        Set<Object> present = new HashSet<>();
+        for (Ingredient ingredient : ingredients) {
+            Object key = keyOf(ingredient);
+            if (key != null) {
+                present.add(key);
+            }
+        }
+
+        BitSet possible = (BitSet) index.unindexed.clone();
+        for (Object key : present) {
+            BitSet recipes = index.byKey.get(key);
+            if (recipes != null) {
+                possible.or(recipes);
+            }
+        }
+        List<BRecipe> candidates = new ArrayList<>(possible.cardinality());
+        for (int i = possible.nextSetBit(0); i >= 0; i = possible.nextSetBit(i + 1)) {
+            if (index.isFulfilled(i, present)) {
+                candidates.add(index.recipes[i]);
+            }
+        }
+        return candidates;
+    }
+
+    private boolean isFulfilled(int recipe, Set<Object> present) {
+        for (Set<Object> keys : requirements[recipe]) {
+            boolean found = false;
+            for (Object key : keys) {
+                if (present.contains(key)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RecipeIndex get() {
+        List<BRecipe> recipes = BRecipe.getAllRecipes();
+        RecipeIndex index = current;
+        if (index == null || !index.isBuiltFrom(recipes)) {
+            index = new RecipeIndex(recipes);
+            current = index;
+        }
+        return index;
+    }
+
+    // Recipes may be added and removed through the API at any time
+    private boolean isBuiltFrom(List<BRecipe> recipeList) {
+        if (recipeList.size() != recipes.length) {
+            return false;
+        }
+        for (int i = 0; i < recipes.length; i++) {
+            if (recipeList.get(i) != recipes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The identity of an Ingredient, null if it has none that RecipeItems are indexed by
+     */
+    private static Object keyOf(Ingredient ingredient) {
+        if (ingredient instanceof SimpleItem simple) {
+            return simple.getMaterial();
+        } else if (ingredient instanceof CustomItem custom) {
+            return custom.getMaterial();
+        } else if (ingredient instanceof PluginItem plugin) {
+            return new PluginKey(plugin.getPlugin(), plugin.getItemId());
+        }
+        return null;
+    }
+
+    /**
+     * The identities of which an Ingredient needs one to match this RecipeItem.
+     * null if we can't tell, as it may match by name, lore, etc. or a subclass might match differently.
+     */
+    private static Set<Object> requiredKeys(RecipeItem item) {
+        if (item.getClass() == SimpleItem.class) {
+            // Matches SimpleItems and CustomItems with the same Material
+            return Set.of(((SimpleItem) item).getMaterial());
+        } else if (item.getClass() == CustomItem.class) {
+            // Matches SimpleItems and CustomItems with the same Material, if it has one
+            CustomItem custom = (CustomItem) item;
+            return custom.getMaterial() != null ? Set.of(custom.getMaterial()) : null;
+        } else if (item.getClass() == CustomMatchAnyItem.class) {
+            // Matches any of its Materials, but also any of its names, lore, etc.
+            CustomMatchAnyItem any = (CustomMatchAnyItem) item;
+            if (any.hasMaterials() && !any.hasNames() && !any.hasLore() && !any.hasCustomModelDatas()) {
+                return new HashSet<>(any.getMaterials());
+            }
+            return null;
+        } else if (item instanceof PluginItem plugin && matchesOnlySimilar(plugin)) {
+            return Set.of(new PluginKey(plugin.getPlugin(), plugin.getItemId()));
+        }
+        return null;
+    }
+
+    // If this PluginItem still matches only PluginItems of the same plugin and id, as PluginItem does by default
+    private static boolean matchesOnlySimilar(PluginItem item) {
+        try {
+            return item.getClass().getMethod("matches", Ingredient.class).getDeclaringClass() == PluginItem.class
+                && item.getClass().getMethod("isSimilar", Ingredient.class).getDeclaringClass() == PluginItem.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private record PluginKey(String plugin, String itemId) {
+    }
+}
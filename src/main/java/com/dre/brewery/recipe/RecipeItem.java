@@ -29,6 +29,7 @@ import com.dre.brewery.utility.MaterialUtil;
 import com.dre.brewery.utility.MinecraftVersion;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -163,10 +164,12 @@ public abstract class RecipeItem implements Cloneable, DebuggableItem {
     public static RecipeItem getMatchingRecipeItem(ItemStack item, boolean acceptAll) {
         RecipeItem rItem = null;
         boolean multiMatch = false;
-        for (RecipeItem ri : BCauldronRecipe.acceptedCustom) {
+        ItemMeta meta = item.hasItemMeta() ? item.getItemMeta() : null;
+        ItemText text = ItemText.of(meta);
+        for (RecipeItem ri : AcceptedItemIndex.getCandidates(item, meta)) {
             // If we already have a multi match, only check if there is a PluginItem that matches more strictly
             if (!multiMatch || (ri instanceof PluginItem)) {
-                if (ri.matches(item)) {
+                if (AcceptedItemIndex.matches(ri, item, text)) {
                     // If we match a plugin item, that's a very strict match, so immediately return it
                     if (ri instanceof PluginItem) {
                         return ri;
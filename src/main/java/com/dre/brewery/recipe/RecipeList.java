@@ -0,0 +1,162 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The List of all Brew Recipes, with hash lookups by name and id.
+ * <p>All changes go through this List, also those made on its subLists,
+ * so the lookups are dropped whenever it changes and built again from the current Recipes when next needed.
+ */
+final class RecipeList extends AbstractList<BRecipe> implements RandomAccess {
+
+    private final List<BRecipe> recipes = new ArrayList<>();
+    private volatile Lookup lookup;
+
+    @Override
+    public BRecipe get(int index) {
+        return recipes.get(index);
+    }
+
+    @Override
+    public int size() {
+        return recipes.size();
+    }
+
+    @Override
+    public BRecipe set(int index, BRecipe recipe) {
+        BRecipe old = recipes.set(index, recipe);
+        changed();
+        return old;
+    }
+
+    @Override
+    public void add(int index, BRecipe recipe) {
+        recipes.add(index, recipe);
+        modCount++;
+        changed();
+    }
+
+    @Override
+    public BRecipe remove(int index) {
+        BRecipe old = recipes.remove(index);
+        modCount++;
+        changed();
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        recipes.subList(fromIndex, toIndex).clear();
+        modCount++;
+        changed();
+    }
+
+    /**
+     * Drop the lookups, needs to be called when the List or the name or id of a Recipe in it changed
+     */
+    synchronized void changed() {
+        lookup = null;
+    }
+
+    /**
+     * The first Recipe whose main name is this, ignoring case
+     */
+    @Nullable
+    BRecipe getByName(String name) {
+        return lookup().byName.get(ItemText.fold(name));
+    }
+
+    /**
+     * The first Recipe that has this as its bad or good quality name, ignoring case
+     */
+    @Nullable
+    BRecipe getByQualityName(String name) {
+        return lookup().byQualityName.get(ItemText.fold(name));
+    }
+
+    /**
+     * The first Recipe with this id
+     */
+    @Nullable
+    BRecipe getById(String id) {
+        return lookup().byId.get(id);
+    }
+
+    /**
+     * The first Recipe with this id, ignoring case
+     */
+    @Nullable
+    BRecipe getByIdIgnoreCase(String id) {
+        return lookup().byFoldedId.get(ItemText.fold(id));
+    }
+
+    private Lookup lookup() {
+        Lookup current = lookup;
+        if (current == null) {
+            synchronized (this) {
+                current = lookup;
+                if (current == null) {
+                    current = new Lookup(recipes);
+                    lookup = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Built at once and never changed, so the lookups always agree with each other
+    private static final class Lookup {
+        private final Map<String, BRecipe> byName = new HashMap<>();
+        private final Map<String, BRecipe> byQualityName = new HashMap<>();
+        private final Map<String, BRecipe> byId = new HashMap<>();
+        private final Map<String, BRecipe> byFoldedId = new HashMap<>();
+
+        private Lookup(List<BRecipe> recipes) {
+            for (BRecipe recipe : recipes) {
+                if (recipe.getName() != null) {
+                    put(byName, ItemText.fold(recipe.getRecipeName()), recipe);
+                    put(byQualityName, ItemText.fold(recipe.getName(1)), recipe);
+                    put(byQualityName, ItemText.fold(recipe.getName(10)), recipe);
+                }
+                if (recipe.getId() != null) {
+                    put(byId, recipe.getId(), recipe);
+                    put(byFoldedId, ItemText.fold(recipe.getId()), recipe);
+                }
+            }
+        }
+
+        // The first Recipe in the List wins, as when searching through it
+        private static void put(Map<String, BRecipe> map, @Nullable String key, BRecipe recipe) {
+            if (key != null) {
+                map.putIfAbsent(key, recipe);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import com.dre.brewery.BarrelWoodType;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The quality rules of a BRecipe, compiled into tables so Ingredients can be scored against it without recomputing them.
+ * <p>Immutable, compiled from the Recipe when first needed and again if the fields it depends on changed.
+ * The results are exactly the same as computing them from the Recipe directly.
+ */
+public final class RecipeMatcher {
+
+    // The Recipe fields this was compiled from
+    private final List<RecipeItem> source;
+    private final int sourceSize;
+    private final int difficulty;
+    private final int cookingTime;
+    private final byte distillruns;
+    private final BarrelWoodType wood;
+    private final int age;
+
+    private final RecipeItem[] slots; // The Recipe Ingredients, an Ingredient is assigned to the first one it matches
+    private final int[] amounts; // Wanted amount for each slot
+    private final int[] allowedCountDiffs; // Allowed deviation from the amount for each slot
+    private final double badStuffPenalty; // Quality lost for each wrong Ingredient
+    private final int allowedTimeDiff;
+    private final float ageFactor;
+    // Quality for each BarrelWoodType ordinal, with the old and the new barrel type algorithm.
+    // Computed when first needed, Recipes that don't age may have no wood
+    private volatile WoodQuality woodQuality;
+
+    RecipeMatcher(BRecipe recipe) {
+        source = recipe.getIngredients();
+        sourceSize = source.size();
+        difficulty = recipe.getDifficulty();
+        cookingTime = recipe.getCookingTime();
+        distillruns = recipe.getDistillruns();
+        wood = recipe.getWood();
+        age = recipe.getAge();
+
+        slots = source.toArray(new RecipeItem[0]);
+        amounts = new int[slots.length];
+        allowedCountDiffs = new int[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            amounts[i] = slots[i].getAmount();
+            allowedCountDiffs[i] = recipe.allowedCountDiff(amounts[i]);
+        }
+        badStuffPenalty = difficulty / 2.0;
+        allowedTimeDiff = recipe.allowedTimeDiff(cookingTime);
+        ageFactor = (float) difficulty / 2;
+    }
+
+    /**
+     * If this was compiled from the current state of the Recipe
+     */
+    boolean isCompiledFrom(BRecipe recipe) {
+        return source == recipe.getIngredients() && sourceSize == source.size()
+            && difficulty == recipe.getDifficulty() && cookingTime == recipe.getCookingTime()
+            && distillruns == recipe.getDistillruns() && wood == recipe.getWood() && age == recipe.getAge();
+    }
+
+    /**
+     * The quality of the Ingredients for this Recipe, -1 if they are not near it.
+     * <p>Same as BIngredients.getIngredientQuality
+     */
+    public int getIngredientQuality(List<Ingredient> ingredients) {
+        int size = ingredients.size();
+        if (size < slots.length) {
+            // when ingredients are not complete
+            return -1;
+        }
+        // Which slots have been matched by any Ingredient
+        long matched = 0;
+        BitSet matchedMany = slots.length > Long.SIZE ? new BitSet(slots.length) : null;
+
+        float quality = 10;
+        int badStuff = 0;
+        int ingredientsCount = -1;
+        for (int i = 0; i < size; i++) {
+            Ingredient ingredient = ingredients.get(i);
+            int slot = -1;
+            for (int s = 0; s < slots.length; s++) {
+                if (slots[s].matches(ingredient)) {
+                    if (slot == -1) {
+                        slot = s;
+                    }
+                    if (matchedMany == null) {
+                        matched |= 1L << s;
+                    } else {
+                        matchedMany.set(s);
+                    }
+                }
+            }
+
+            int count = ingredient.getAmount();
+            if (slot == -1 || amounts[slot] == 0) {
+                // this ingredient doesnt belong into the recipe
+                // (a Recipe Item without amount counts as not belonging, like BRecipe.amountOf returning 0)
+                if (ingredientsCount == -1) {
+                    ingredientsCount = countIngredients(ingredients);
+                }
+                if (count > (ingredientsCount / 2)) {
+                    // when more than half of the ingredients dont fit into the recipe
+                    return -1;
+                }
+                badStuff++;
+                if (badStuff < size) {
+                    // when there are other ingredients
+                    quality -= count * badStuffPenalty;
+                    continue;
+                } else {
+                    // ingredients dont fit at all
+                    return -1;
+                }
+            }
+            // calculate the quality
+            quality -= ((float) Math.abs(count - amounts[slot]) / allowedCountDiffs[slot]) * 10.0;
+        }
+
+        // when ingredients are not complete
+        if (matchedMany == null ? Long.bitCount(matched) < slots.length : matchedMany.cardinality() < slots.length) {
+            return -1;
+        }
+        if (quality >= 0) {
+            return Math.round(quality);
+        }
+        return -1;
+    }
+
+    /**
+     * The quality of the cooking time for this Recipe, -1 if it is too far off or the distilling doesn't fit.
+     * <p>Same as BIngredients.getCookingQuality
+     */
+    public int getCookingQuality(int cookedTime, boolean distilled) {
+        if ((distillruns == 0) == distilled) {
+            return -1;
+        }
+        int quality = 10 - (int) Math.round(((float) Math.abs(cookedTime - cookingTime) / allowedTimeDiff) * 10.0);
+
+        if (quality >= 0) {
+            if (cookedTime < 1) {
+                return 0;
+            }
+            return quality;
+        }
+        return -1;
+    }
+
+    /**
+     * The quality of the barrel wood for this Recipe.
+     * <p>Same as BIngredients.getWoodQuality
+     */
+    public int getWoodQuality(BarrelWoodType barrelWood, boolean newAlgorithm) {
+        if (barrelWood == null && (wood == BarrelWoodType.ANY || newAlgorithm)) {
+            // Without barrel wood, only the Recipes that don't care about wood fit
+            return wood == BarrelWoodType.ANY ? 10 : 0;
+        }
+        WoodQuality quality = woodQuality;
+        if (quality == null) {
+            quality = new WoodQuality(this);
+            woodQuality = quality;
+        }
+        return (newAlgorithm ? quality.newAlgorithm : quality.oldAlgorithm)[barrelWood.ordinal()];
+    }
+
+    /**
+     * The quality of the aging time for this Recipe.
+     * <p>Same as BIngredients.getAgeQuality
+     */
+    public int getAgeQuality(float time) {
+        int quality = 10 - Math.round(Math.abs(time - age) * ageFactor);
+
+        return Math.max(quality, 0);
+    }
+
+    private static int countIngredients(List<Ingredient> ingredients) {
+        int count = 0;
+        for (int i = 0, size = ingredients.size(); i < size; i++) {
+            count += ingredients.get(i).getAmount();
+        }
+        return count;
+    }
+
+    private int computeWoodQuality(BarrelWoodType barrelWood, boolean newAlgorithm) {
+        if (wood.equals(BarrelWoodType.ANY)) {
+            // type of wood doesnt matter
+            return 10;
+        }
+        if (newAlgorithm) {
+            return computeWoodQualityNew(barrelWood);
+        }
+        // Same as BRecipe.getWoodDiff
+        int quality = 10 - Math.round(Math.abs((float) barrelWood.getIndex() - wood.getIndex()) * difficulty);
+
+        return Math.max(quality, 0);
+    }
+
+    // At difficulty 1, distances 0-5 have quality 10, 10, 9, 8, 7, 6
+    // At difficulty 5, distances 0-5 have quality 10, 8, 4, 1, 0, 0
+    // At difficulty 10, distances 0-5 have quality 10, 5, 0, 0, 0, 0
+    // See: https://www.desmos.com/calculator/aaoixs2qo7
+    private int computeWoodQualityNew(BarrelWoodType barrelWood) {
+        float baseQuality = switch (wood.getDistance(barrelWood)) {
+            case 0 -> 10.0f;
+            case 1 -> 9.0f;
+            case 2 -> 7.75f;
+            case 3 -> 6.25f;
+            case 4 -> 4.5f;
+            case 5 -> 2.5f;
+            default -> 0.0f;
+        };
+        if (baseQuality == 0.0f) {
+            return 0;
+        }
+        float quality = 10f - (10f - baseQuality) * 0.5f * difficulty;
+        return Math.max(Math.round(quality), 0);
+    }
+
+    private static final class WoodQuality {
+        private final int[] oldAlgorithm;
+        private final int[] newAlgorithm;
+
+        private WoodQuality(RecipeMatcher matcher) {
+            BarrelWoodType[] types = BarrelWoodType.values();
+            oldAlgorithm = new int[types.length];
+            newAlgorithm = new int[types.length];
+            for (BarrelWoodType type : types) {
+                oldAlgorithm[type.ordinal()] = matcher.computeWoodQuality(type, false);
+                newAlgorithm[type.ordinal()] = matcher.computeWoodQuality(type, true);
+            }
+        }
+    }
+}
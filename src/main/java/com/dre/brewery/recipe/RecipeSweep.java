@@ -0,0 +1,254 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.recipe;
+
+import com.dre.brewery.BIngredients;
+import com.dre.brewery.BarrelWoodType;
+import com.dre.brewery.Brew;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulates Brews for many variations of each Recipe at once, to find where Recipes collide or can't be made.
+ * <p>Runs on the same scoring as real Brews (BIngredients and Brew), but without creating any items, Lore or events.
+ * Each Recipe is varied in its Ingredient amounts, cooking time, distill runs, age and barrel wood,
+ * and every variation is written as one line of CSV.
+ * <p>Recipes are simulated in parallel on their own ForkJoinPool, results are written to the file as each Recipe finishes.
+ */
+public final class RecipeSweep {
+
+    public static final String HEADER = "recipe,ingredient,amount_delta,cook_minutes,distill_runs,wood,age_years,result,quality,alcohol";
+
+    /**
+     * The variations to simulate for each Recipe, relative to what the Recipe asks for.
+     *
+     * @param amountDeltas     Added to the amount of one Ingredient at a time
+     * @param cookOffsets      Added to the cooking time
+     * @param extraDistillRuns Distill runs simulated beyond what the Recipe needs
+     * @param ageFactors       Multiplied with the age, for aged Recipes
+     * @param otherWoods       If aged Recipes are also simulated in every other barrel wood, at their exact age
+     */
+    public record Ranges(int[] amountDeltas, int[] cookOffsets, int extraDistillRuns, float[] ageFactors, boolean otherWoods) {
+        public static final Ranges DEFAULT = new Ranges(
+            new int[]{ -2, -1, 1, 2 },
+            new int[]{ -6, -4, -2, -1, 0, 1, 2, 4, 6 },
+            1,
+            new float[]{ 0.5f, 0.75f, 1, 1.25f, 1.5f, 2 },
+            true
+        );
+    }
+
+    private RecipeSweep() {
+    }
+
+    /**
+     * Simulate all variations of these Recipes with the default Ranges
+     *
+     * @see #run(Collection, Ranges, File)
+     */
+    public static CompletableFuture<Integer> run(Collection<BRecipe> recipes, File file) {
+        return run(recipes, Ranges.DEFAULT, file);
+    }
+
+    /**
+     * Simulate all variations of these Recipes asynchronously, and write the results to a CSV file.
+     * <p>The Recipes should not be changed while the sweep is running.
+     *
+     * @param recipes The Recipes to vary
+     * @param ranges  Which variations to simulate
+     * @param file    The CSV file to write, replaced if it exists
+     * @return Future completing with the number of results written
+     */
+    public static CompletableFuture<Integer> run(Collection<BRecipe> recipes, Ranges ranges, File file) {
+        List<BRecipe> toSweep = new ArrayList<>(recipes);
+        BufferedWriter writer;
+        try {
+            File folder = file.getAbsoluteFile().getParentFile();
+            if (folder != null) {
+                Files.createDirectories(folder.toPath());
+            }
+            writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+            writer.write(HEADER);
+            writer.newLine();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger rows = new AtomicInteger();
+        CompletableFuture<?>[] sweeps = new CompletableFuture<?>[toSweep.size()];
+        for (int i = 0; i < sweeps.length; i++) {
+            BRecipe recipe = toSweep.get(i);
+            sweeps[i] = CompletableFuture.runAsync(() -> {
+                StringBuilder csv = new StringBuilder();
+                // Would only push the results of real Brews out of the cache
+                RecipeCache.bypass(() -> rows.addAndGet(sweep(recipe, ranges, csv)));
+                synchronized (writer) {
+                    try {
+                        writer.write(csv.toString());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }, pool);
+        }
+
+        return CompletableFuture.allOf(sweeps).handle((v, e) -> {
+            pool.shutdown();
+            try {
+                writer.close();
+            } catch (IOException closeError) {
+                if (e == null) {
+                    e = closeError;
+                }
+            }
+            if (e != null) {
+                throw e instanceof RuntimeException runtime ? runtime : new RuntimeException(e);
+            }
+            return rows.get();
+        });
+    }
+
+    /**
+     * Simulate all variations of one Recipe
+     *
+     * @return The number of lines added to the csv
+     */
+    private static int sweep(BRecipe recipe, Ranges ranges, StringBuilder csv) {
+        List<RecipeItem> items = recipe.getIngredients();
+        List<Age> ages = agesOf(recipe, ranges);
+        int maxDistillRuns = recipe.getDistillruns() + ranges.extraDistillRuns();
+        String recipeId = escape(recipe.getId() != null ? recipe.getId() : recipe.getRecipeName());
+
+        int rows = 0;
+        // -1 is the Recipe as it is, then each Ingredient in turn with a changed amount
+        for (int varied = -1; varied < items.size(); varied++) {
+            int[] deltas = varied == -1 ? new int[]{ 0 } : ranges.amountDeltas();
+            String ingredient = varied == -1 ? "" : escape(items.get(varied).toConfigStringNoAmount());
+            for (int delta : deltas) {
+                BIngredients ingredients = ingredientsOf(items, varied, delta);
+                if (ingredients == null) {
+                    continue;
+                }
+                for (int cookOffset : ranges.cookOffsets()) {
+                    int cookTime = recipe.getCookingTime() + cookOffset;
+                    if (cookTime < 1) {
+                        continue;
+                    }
+                    for (int distillRuns = 0; distillRuns <= maxDistillRuns; distillRuns++) {
+                        for (Age age : ages) {
+                            Brew brew = simulate(ingredients, cookTime, distillRuns, age);
+                            BRecipe result = brew.getCurrentRecipe();
+                            csv.append(recipeId).append(',')
+                                .append(ingredient).append(',')
+                                .append(delta).append(',')
+                                .append(cookTime).append(',')
+                                .append(distillRuns).append(',')
+                                .append(age != null ? age.wood().name() : "").append(',')
+                                .append(age != null ? age.time() : 0).append(',')
+                                .append(result == null ? "" : escape(result.getId() != null ? result.getId() : result.getRecipeName())).append(',')
+                                .append(brew.getQuality()).append(',')
+                                .append(brew.getAlc()).append('\n');
+                            rows++;
+                        }
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Cook, distill and age the ingredients, as SimulateCommand does with items
+     */
+    private static Brew simulate(BIngredients ingredients, int cookTime, int distillRuns, Age age) {
+        Brew brew = ingredients.cookBrew(cookTime);
+        for (int i = 0; i < distillRuns; i++) {
+            brew.distill();
+        }
+        if (age != null && brew.hasRecipe()) {
+            brew.age(age.time(), age.wood());
+        }
+        return brew;
+    }
+
+    /**
+     * The Recipe Ingredients, with the amount of one of them changed by delta. null if that leaves a negative amount
+     */
+    private static BIngredients ingredientsOf(List<RecipeItem> items, int varied, int delta) {
+        BIngredients ingredients = new BIngredients();
+        for (int i = 0; i < items.size(); i++) {
+            RecipeItem item = items.get(i);
+            int amount = item.getAmount() + (i == varied ? delta : 0);
+            if (amount < 0) {
+                return null;
+            }
+            for (int a = 0; a < amount; a++) {
+                ingredients.addGeneric(item);
+            }
+        }
+        return ingredients;
+    }
+
+    /**
+     * The ages to simulate, null for not aging at all
+     */
+    private static List<Age> agesOf(BRecipe recipe, Ranges ranges) {
+        List<Age> ages = new ArrayList<>();
+        ages.add(null);
+        if (!recipe.needsToAge()) {
+            return ages;
+        }
+        BarrelWoodType wood = recipe.getWood().isSpecific() ? recipe.getWood() : BarrelWoodType.OAK;
+        for (float factor : ranges.ageFactors()) {
+            ages.add(new Age(wood, recipe.getAge() * factor));
+        }
+        if (ranges.otherWoods()) {
+            for (BarrelWoodType other : BarrelWoodType.values()) {
+                if (other.isSpecific() && other != wood) {
+                    ages.add(new Age(other, recipe.getAge()));
+                }
+            }
+        }
+        return ages;
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private record Age(BarrelWoodType wood, float time) {
+    }
+}
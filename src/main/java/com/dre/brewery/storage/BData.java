@@ -33,6 +33,7 @@ import com.dre.brewery.lore.Base91DecoderStream;
 import com.dre.brewery.recipe.Ingredient;
 import com.dre.brewery.recipe.SimpleItem;
 import com.dre.brewery.utility.BUtil;
+import com.dre.brewery.utility.BlockKey;
 import com.dre.brewery.utility.BoundingBox;
 import com.dre.brewery.utility.Logging;
 import com.dre.brewery.utility.MinecraftVersion;
@@ -348,7 +349,7 @@ public class BData {
         }
 
         // loading BCauldron
-        final Map<Block, BCauldron> initCauldrons = new HashMap<>();
+        final Map<BlockKey, BCauldron> initCauldrons = new HashMap<>();
         if (BData.worldData.contains("BCauldron." + uuid)) {
             ConfigurationSection section = BData.worldData.getConfigurationSection("BCauldron." + uuid);
             for (String cauldron : section.getKeys(false)) {
@@ -361,7 +362,7 @@ public class BData {
                         BIngredients ingredients = loadCauldronIng(section, cauldron + ".ingredients");
                         int state = section.getInt(cauldron + ".state", 0);
 
-                        initCauldrons.put(worldBlock, new BCauldron(worldBlock, ingredients, state, UUID.randomUUID()));
+                        initCauldrons.put(BlockKey.of(worldBlock), new BCauldron(worldBlock, ingredients, state, UUID.randomUUID()));
                     } else {
                         Logging.errorLog("Incomplete Block-Data in data.yml: " + section.getCurrentPath() + "." + cauldron);
                     }
@@ -474,7 +475,7 @@ public class BData {
             BCauldron.bcauldrons.putAll(initCauldrons);
         }
         if (!initBarrels.isEmpty()) {
-            Barrel.barrels.addAll(initBarrels);
+            initBarrels.forEach(Barrel::registerBarrel);
         }
 
         if (!initWakeups.isEmpty()) {
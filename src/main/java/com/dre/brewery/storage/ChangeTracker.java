@@ -0,0 +1,98 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.storage;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which objects of one kind changed since the last save, and the ids of the ones that were deleted.
+ * <p>Lets the autosave write only what changed instead of everything.
+ */
+public final class ChangeTracker<T> {
+
+    private final Set<T> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> removed = ConcurrentHashMap.newKeySet(); // Tombstones
+
+    /**
+     * This object was created or changed and has to be saved
+     */
+    public void markDirty(T thing) {
+        dirty.add(thing);
+    }
+
+    /**
+     * This object was deleted and has to be removed from storage
+     */
+    public void markRemoved(T thing, @Nullable UUID id) {
+        dirty.remove(thing);
+        if (id != null) {
+            removed.add(id);
+        }
+    }
+
+    /**
+     * Take all objects marked dirty since the last call
+     */
+    public List<T> pollDirty() {
+        return poll(dirty);
+    }
+
+    /**
+     * Take the ids of all objects deleted since the last call
+     */
+    public List<UUID> pollRemoved() {
+        return poll(removed);
+    }
+
+    /**
+     * Put back changes that were polled but could not be saved, so the next save tries again
+     */
+    public void restore(Collection<T> dirtyThings, Collection<UUID> removedIds) {
+        dirty.addAll(dirtyThings);
+        removed.addAll(removedIds);
+    }
+
+    /**
+     * Forget all changes, i.e. when everything is written anyway
+     */
+    public void clear() {
+        dirty.clear();
+        removed.clear();
+    }
+
+    // Remove while iterating, so anything marked concurrently stays for the next save
+    private static <E> List<E> poll(Collection<E> from) {
+        List<E> polled = new ArrayList<>(from.size());
+        for (Iterator<E> iter = from.iterator(); iter.hasNext(); ) {
+            polled.add(iter.next());
+            iter.remove();
+        }
+        return polled;
+    }
+}
@@ -59,6 +59,11 @@ public abstract class DataManager {
     protected static long lastAutoSave = System.currentTimeMillis();
     protected static Set<ExternallyAutoSavable> autoSavabales = new HashSet<>();
 
+    // Changes since the last save, so the autosave only has to write those
+    public static final ChangeTracker<Barrel> barrelChanges = new ChangeTracker<>();
+    public static final ChangeTracker<BCauldron> cauldronChanges = new ChangeTracker<>();
+    public static final ChangeTracker<BPlayer> playerChanges = new ChangeTracker<>();
+
     private final DataManagerType type;
 
     protected DataManager(DataManagerType type) throws StorageInitException {
@@ -133,14 +138,21 @@ public abstract class DataManager {
         // Implemented in subclasses that use database connections
     }
 
+    /**
+     * Run many writes at once. Storages that write everything on each change can override this to only write once at the end
+     */
+    protected void batch(Runnable writes) {
+        writes.run();
+    }
+
 
     public void tryAutoSave() {
         long interval = ConfigManager.getConfig(Config.class).getAutosave() * 60000L;
 
         if (System.currentTimeMillis() - lastAutoSave > interval) {
-            saveAll(true);
+            saveChanged(true, null);
             lastAutoSave = System.currentTimeMillis();
-            Logging.debugLog("Auto saved all data!");
+            Logging.debugLog("Auto saved changed data!");
         }
     }
 
@@ -170,7 +182,15 @@ public abstract class DataManager {
         saveAll(async, null);
     }
 
+    /**
+     * Rewrite all data, replacing everything in storage
+     */
     public void saveAll(boolean async, Runnable callback) {
+        // Everything is written, so all tracked changes are included
+        barrelChanges.clear();
+        cauldronChanges.clear();
+        playerChanges.clear();
+
         Collection<Barrel> barrels = Barrel.getBarrels();
         Collection<BCauldron> cauldrons = BCauldron.getBcauldrons().values();
         Collection<BPlayer> bPlayers = BPlayer.getPlayers().values();
@@ -192,12 +212,72 @@ public abstract class DataManager {
     }
 
     private void doSave(Collection<Barrel> barrels, Collection<BCauldron> cauldrons, Collection<BPlayer> players, Collection<Wakeup> wakeups) {
-        this.saveBreweryMiscData(getLoadedMiscData());
-        this.saveAllBarrels(barrels);
-        this.saveAllCauldrons(cauldrons);
-        this.saveAllPlayers(players);
-        this.saveAllWakeups(wakeups);
+        batch(() -> {
+            this.saveBreweryMiscData(getLoadedMiscData());
+            this.saveAllBarrels(barrels);
+            this.saveAllCauldrons(cauldrons);
+            this.saveAllPlayers(players);
+            this.saveAllWakeups(wakeups);
+        });
+
+        saveExternal();
+        Logging.debugLog("Saved all data!");
+    }
+
+    /**
+     * Only write the Barrels, Cauldrons and Players that changed since the last save, and delete the removed ones
+     */
+    public void saveChanged(boolean async, Runnable callback) {
+        Barrel.markChangedInventories();
+        List<UUID> removedBarrels = barrelChanges.pollRemoved();
+        List<Barrel> barrels = barrelChanges.pollDirty();
+        // A Barrel may still have been marked dirty while it was removed, it must not be saved again
+        Set<UUID> removedBarrelIds = new HashSet<>(removedBarrels);
+        barrels.removeIf(barrel -> removedBarrelIds.contains(barrel.getId()));
+        List<UUID> removedCauldrons = cauldronChanges.pollRemoved();
+        List<BCauldron> cauldrons = cauldronChanges.pollDirty();
+        List<UUID> removedPlayers = playerChanges.pollRemoved();
+        List<BPlayer> bPlayers = playerChanges.pollDirty();
+        Collection<Wakeup> wakeups = Wakeup.getWakeups();
+
+        Runnable save = () -> {
+            try {
+                batch(() -> {
+                    this.saveBreweryMiscData(getLoadedMiscData());
+                    // Deletes first, anything re-added since is saved again right after
+                    removedBarrels.forEach(this::deleteBarrel);
+                    barrels.stream().filter(barrel -> barrel.getBounds() != null).forEach(this::saveBarrel);
+                    removedCauldrons.forEach(this::deleteCauldron);
+                    cauldrons.forEach(this::saveCauldron);
+                    removedPlayers.forEach(this::deletePlayer);
+                    bPlayers.forEach(this::savePlayer);
+                    // Only a handful that admins set, not worth tracking
+                    this.saveAllWakeups(wakeups);
+                });
+            } catch (RuntimeException e) {
+                // Keep the changes for the next save
+                barrelChanges.restore(barrels, removedBarrels);
+                cauldronChanges.restore(cauldrons, removedCauldrons);
+                playerChanges.restore(bPlayers, removedPlayers);
+                throw e;
+            }
 
+            saveExternal();
+            Logging.debugLog("Saved " + barrels.size() + " barrels, " + cauldrons.size() + " cauldrons and " + bPlayers.size() + " players, deleted "
+                + (removedBarrels.size() + removedCauldrons.size() + removedPlayers.size()) + "!");
+            if (callback != null) {
+                callback.run();
+            }
+        };
+
+        if (async) {
+            BreweryPlugin.getScheduler().runTaskAsynchronously(save);
+        } else {
+            save.run();
+        }
+    }
+
+    private void saveExternal() {
         for (ExternallyAutoSavable autoSaveAble : autoSavabales) {
             try {
                 autoSaveAble.onAutoSave(this);
@@ -205,7 +285,6 @@ public abstract class DataManager {
                 Logging.errorLog("An external auto-savable class threw an exception. This is most likely an addon not saving properly.", e);
             }
         }
-        Logging.debugLog("Saved all data!");
     }
 
 
@@ -258,6 +337,7 @@ public abstract class DataManager {
     public static void loadMiscData(BreweryMiscData miscData) {
         Brew.installTime = miscData.installTime();
         MCBarrel.mcBarrelTime = miscData.mcBarrelTime();
+        Barrel.agingClock = miscData.barrelAgingClock();
         Brew.loadPrevSeeds(miscData.prevSaveSeeds());
 
 
@@ -285,7 +365,8 @@ public abstract class DataManager {
             MCBarrel.mcBarrelTime,
             Brew.getPrevSeeds(),
             brewsCreated,
-            brewsCreated.hashCode()
+            brewsCreated.hashCode(),
+            Barrel.agingClock
         );
     }
 
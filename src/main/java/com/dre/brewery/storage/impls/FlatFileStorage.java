@@ -24,13 +24,14 @@ import com.dre.brewery.BCauldron;
 import com.dre.brewery.BIngredients;
 import com.dre.brewery.BPlayer;
 import com.dre.brewery.Barrel;
+import com.dre.brewery.BarrelBody;
+import com.dre.brewery.BarrelWoodType;
 import com.dre.brewery.Wakeup;
 import com.dre.brewery.configuration.sector.capsule.ConfiguredDataManager;
 import com.dre.brewery.storage.DataManager;
 import com.dre.brewery.storage.StorageInitException;
 import com.dre.brewery.storage.interfaces.SerializableThing;
 import com.dre.brewery.storage.records.BreweryMiscData;
-import com.dre.brewery.storage.serialization.BukkitSerialization;
 import com.dre.brewery.storage.serialization.SQLDataSerializer;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.BoundingBox;
@@ -41,7 +42,6 @@ import com.google.gson.reflect.TypeToken;
 import org.bukkit.Location;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
@@ -61,6 +61,7 @@ public class FlatFileStorage extends DataManager {
     private final File rawFile;
     private final YamlConfiguration dataFile;
     private SQLDataSerializer serializer;
+    private boolean batching = false; // Only write the file once at the end of a batch
 
     public FlatFileStorage(ConfiguredDataManager record) throws StorageInitException {
         super(record.getType());
@@ -80,6 +81,9 @@ public class FlatFileStorage extends DataManager {
 
 
     private void save() {
+        if (batching) {
+            return;
+        }
         try {
             dataFile.save(rawFile);
         } catch (IOException e) {
@@ -87,6 +91,17 @@ public class FlatFileStorage extends DataManager {
         }
     }
 
+    @Override
+    protected synchronized void batch(Runnable writes) {
+        batching = true;
+        try {
+            writes.run();
+        } finally {
+            batching = false;
+        }
+        save();
+    }
+
     private SQLDataSerializer getLazySerializerInstance() {
         if (serializer == null) {
             serializer = new SQLDataSerializer();
@@ -196,10 +211,22 @@ public class FlatFileStorage extends DataManager {
         BoundingBox boundingBox = BoundingBox.fromPoints(bounds);
         float time = (float) dataFile.getDouble(path + ".time", 0.0);
         byte sign = (byte) dataFile.getInt(path + ".sign", 0);
-        ItemStack[] items = BukkitSerialization.itemStackArrayFromBase64(dataFile.getString(path + ".items", null));
+        String items = dataFile.getString(path + ".items", null);
 
 
-        return new Barrel(spigotLoc.getBlock(), sign, boundingBox, items, time, id);
+        Barrel barrel;
+        if (dataFile.contains(path + ".lastOpened")) {
+            barrel = new Barrel(spigotLoc.getBlock(), sign, boundingBox, items, id, dataFile.getLong(path + ".lastOpened"));
+        } else {
+            // Data from before the aging clock only has the time
+            barrel = new Barrel(spigotLoc.getBlock(), sign, boundingBox, items, time, id);
+        }
+        if (dataFile.contains(path + ".wood")) {
+            // Shape is only saved once the structure has been checked
+            barrel.setShape(new BarrelBody.Shape(dataFile.getBoolean(path + ".small"), (byte) dataFile.getInt(path + ".direction"),
+                BarrelWoodType.fromName(dataFile.getString(path + ".wood"))));
+        }
+        return barrel;
     }
 
     @Override
@@ -238,8 +265,15 @@ public class FlatFileStorage extends DataManager {
         dataFile.set(path + ".spigot", serializeLocation(barrel.getSpigot().getLocation()));
         dataFile.set(path + ".bounds", barrel.getBounds().serialize());
         dataFile.set(path + ".time", barrel.getTime());
+        dataFile.set(path + ".lastOpened", barrel.getLastOpened());
         dataFile.set(path + ".sign", barrel.getSignoffset());
-        dataFile.set(path + ".items", BukkitSerialization.itemStackArrayToBase64(barrel.getInventory().getContents()));
+        dataFile.set(path + ".items", barrel.getSerializedItems());
+        BarrelBody.Shape shape = barrel.getCachedShape();
+        if (shape != null) {
+            dataFile.set(path + ".small", shape.small());
+            dataFile.set(path + ".direction", shape.direction());
+            dataFile.set(path + ".wood", shape.wood().name());
+        }
         save();
     }
 
@@ -260,7 +294,13 @@ public class FlatFileStorage extends DataManager {
         BIngredients ingredients = BIngredients.deserializeIngredients(dataFile.getString(path + ".ingredients"));
         int state = dataFile.getInt(path + ".state", 0);
 
-        return new BCauldron(loc.getBlock(), ingredients, state, id);
+        BCauldron cauldron = new BCauldron(loc.getBlock(), ingredients, state, id);
+        if (dataFile.contains(path + ".heatedSince")) {
+            // Not there in data from before the heated intervals, which only has the state
+            cauldron.setCookedMinutes(dataFile.getInt(path + ".cookedMinutes"));
+            cauldron.setHeatedSince(dataFile.getLong(path + ".heatedSince"));
+        }
+        return cauldron;
     }
 
     @Override
@@ -297,6 +337,8 @@ public class FlatFileStorage extends DataManager {
         dataFile.set(path + ".block", serializeLocation(cauldron.getBlock().getLocation()));
         dataFile.set(path + ".ingredients", cauldron.getIngredients().serializeIngredients());
         dataFile.set(path + ".state", cauldron.getState());
+        dataFile.set(path + ".cookedMinutes", cauldron.getCookedMinutes());
+        dataFile.set(path + ".heatedSince", cauldron.getHeatedSince());
         save();
     }
 
@@ -418,7 +460,8 @@ public class FlatFileStorage extends DataManager {
             dataFile.getLong("misc.mcBarrelTime", 0),
             dataFile.getLongList("misc.previousSaveSeeds"),
             dataFile.getIntegerList("misc.brewsCreated"),
-            dataFile.getInt("misc.brewsCreatedHash", 0)
+            dataFile.getInt("misc.brewsCreatedHash", 0),
+            dataFile.getLong("misc.barrelAgingClock", 0)
         );
     }
 
@@ -429,6 +472,7 @@ public class FlatFileStorage extends DataManager {
         dataFile.set("misc.previousSaveSeeds", data.prevSaveSeeds());
         dataFile.set("misc.brewsCreated", data.brewsCreated());
         dataFile.set("misc.brewsCreatedHash", data.brewsCreatedHash());
+        dataFile.set("misc.barrelAgingClock", data.barrelAgingClock());
         save();
     }
 }
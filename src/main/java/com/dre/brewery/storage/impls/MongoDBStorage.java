@@ -298,7 +298,7 @@ public class MongoDBStorage extends DataManager {
         if (data != null) {
             return data;
         }
-        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0);
+        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0, 0);
     }
 
     @Override
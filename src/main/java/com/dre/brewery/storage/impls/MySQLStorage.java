@@ -378,7 +378,7 @@ public class MySQLStorage extends DataManager {
         } catch (SQLException e) {
             Logging.errorLog("Failed to retrieve misc data from MySQL!", e);
         }
-        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0);
+        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0, 0);
     }
 
     @Override
@@ -390,7 +390,7 @@ public class SQLiteStorage extends DataManager {
         } catch (SQLException e) {
             Logging.errorLog("Failed to retrieve misc data from SQLite!", e);
         }
-        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0);
+        return new BreweryMiscData(System.currentTimeMillis(), 0, new ArrayList<>(), new ArrayList<>(), 0, 0);
     }
 
     @Override
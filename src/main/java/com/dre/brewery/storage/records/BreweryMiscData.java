@@ -30,7 +30,7 @@ import java.util.List;
  * read through by me.
  */
 public record BreweryMiscData(long installTime, long mcBarrelTime, List<Long> prevSaveSeeds, List<Integer> brewsCreated,
-                              int brewsCreatedHash) implements SerializableThing {
+                              int brewsCreatedHash, long barrelAgingClock) implements SerializableThing {
 
     @Override
     public String getId() {
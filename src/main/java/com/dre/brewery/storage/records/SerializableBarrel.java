@@ -21,9 +21,10 @@
 package com.dre.brewery.storage.records;
 
 import com.dre.brewery.Barrel;
+import com.dre.brewery.BarrelBody;
+import com.dre.brewery.BarrelWoodType;
 import com.dre.brewery.storage.DataManager;
 import com.dre.brewery.storage.interfaces.SerializableThing;
-import com.dre.brewery.storage.serialization.BukkitSerialization;
 import com.dre.brewery.utility.BUtil;
 import com.dre.brewery.utility.BoundingBox;
 import org.bukkit.Location;
@@ -39,11 +40,20 @@ import java.util.List;
  * @param time               no idea
  * @param sign               The sign byte offset the barrel
  * @param serializedItems    Serialized ItemStacks 'BukkitSerialization.itemStackArrayToBase64(ItemStack[])'
+ * @param lastOpened         The Barrel.agingClock when the barrel was last opened, null in data from before it existed
+ * @param small              If the barrel is small, null if its shape was never checked
+ * @param direction          Direction of the barrel from the spigot, null if its shape was never checked
+ * @param wood               Name of the BarrelWoodType of the barrel, null if its shape was never checked
  */
 public record SerializableBarrel(String id, String serializedLocation, List<Integer> bounds, float time, byte sign,
-                                 String serializedItems) implements SerializableThing {
+                                 String serializedItems, Long lastOpened, Boolean small, Byte direction, String wood) implements SerializableThing {
     public SerializableBarrel(Barrel barrel) {
-        this(barrel.getId().toString(), DataManager.serializeLocation(barrel.getSpigot().getLocation()), barrel.getBounds().serializeToIntList(), barrel.getTime(), barrel.getSignoffset(), BukkitSerialization.itemStackArrayToBase64(barrel.getInventory().getContents()));
+        this(barrel, barrel.getCachedShape());
+    }
+
+    private SerializableBarrel(Barrel barrel, BarrelBody.Shape shape) {
+        this(barrel.getId().toString(), DataManager.serializeLocation(barrel.getSpigot().getLocation()), barrel.getBounds().serializeToIntList(), barrel.getTime(), barrel.getSignoffset(), barrel.getSerializedItems(), barrel.getLastOpened(),
+            shape != null ? shape.small() : null, shape != null ? shape.direction() : null, shape != null ? shape.wood().name() : null);
     }
 
     public Barrel toBarrel() {
@@ -51,7 +61,18 @@ public record SerializableBarrel(String id, String serializedLocation, List<Inte
         if (loc == null) {
             return null;
         }
-        return new Barrel(loc.getBlock(), sign, BoundingBox.fromPoints(bounds), BukkitSerialization.itemStackArrayFromBase64(serializedItems), time, BUtil.uuidFromString(id));
+        // Items stay serialized until the Barrel is accessed
+        Barrel barrel;
+        if (lastOpened != null) {
+            barrel = new Barrel(loc.getBlock(), sign, BoundingBox.fromPoints(bounds), serializedItems, BUtil.uuidFromString(id), lastOpened);
+        } else {
+            // Data from before the aging clock only has the time
+            barrel = new Barrel(loc.getBlock(), sign, BoundingBox.fromPoints(bounds), serializedItems, time, BUtil.uuidFromString(id));
+        }
+        if (small != null && direction != null && wood != null) {
+            barrel.setShape(new BarrelBody.Shape(small, direction, BarrelWoodType.fromName(wood)));
+        }
+        return barrel;
     }
 
     @Override
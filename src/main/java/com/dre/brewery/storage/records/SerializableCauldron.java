@@ -33,12 +33,15 @@ import org.bukkit.Location;
  * @param id                    The UUID of the cauldron
  * @param serializedLocation    The Block/Location of the cauldron
  * @param serializedIngredients Serialized BIngredients 'BIngredients.deserialize(String)'
- * @param state                 The state
+ * @param state                 The cooking time in minutes when it was saved
+ * @param cookedMinutes         The cooking time of all ended heated intervals, null in data from before it existed
+ * @param heatedSince           The Barrel.agingClock when the current heated interval began, -1 if not heated, null in data from before it existed
  */
 public record SerializableCauldron(String id, String serializedLocation, String serializedIngredients,
-                                   int state) implements SerializableThing {
+                                   int state, Integer cookedMinutes, Long heatedSince) implements SerializableThing {
     public SerializableCauldron(BCauldron cauldron) {
-        this(cauldron.getId().toString(), DataManager.serializeLocation(cauldron.getBlock().getLocation()), cauldron.getIngredients().serializeIngredients(), cauldron.getState());
+        this(cauldron.getId().toString(), DataManager.serializeLocation(cauldron.getBlock().getLocation()), cauldron.getIngredients().serializeIngredients(), cauldron.getState(),
+            cauldron.getCookedMinutes(), cauldron.getHeatedSince());
     }
 
     public BCauldron toCauldron() {
@@ -46,7 +49,13 @@ public record SerializableCauldron(String id, String serializedLocation, String
         if (loc == null) {
             return null;
         }
-        return new BCauldron(loc.getBlock(), BIngredients.deserializeIngredients(serializedIngredients), state, BUtil.uuidFromString(id));
+        BCauldron cauldron = new BCauldron(loc.getBlock(), BIngredients.deserializeIngredients(serializedIngredients), state, BUtil.uuidFromString(id));
+        if (cookedMinutes != null && heatedSince != null) {
+            // Null for data from before the heated intervals, which only has the state
+            cauldron.setCookedMinutes(cookedMinutes);
+            cauldron.setHeatedSince(heatedSince);
+        }
+        return cauldron;
     }
 
     @Override
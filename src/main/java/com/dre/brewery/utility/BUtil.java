@@ -364,6 +364,9 @@ public final class BUtil {
             return true;
         }
         Material type = block.getType();
+        if (!BarrelAsset.isBreweryBlock(type)) {
+            return true;
+        }
         if (type == Material.CAULDRON || type == MaterialUtil.WATER_CAULDRON) {
             // will only remove when existing
             BCauldron.remove(block);
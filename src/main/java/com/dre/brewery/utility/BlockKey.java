@@ -0,0 +1,113 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.utility;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Compact key of a Block position: the World id and the x, y, z coordinates packed into one long.
+ * <p>Hashing and comparing it is much cheaper than a Block, and it can be created from a Location without getting the Block.
+ * <p>Packed like Minecraft does: 26 bits x, 26 bits z, 12 bits y.
+ *
+ * @param world    The UID of the World
+ * @param position The packed coordinates, see {@link #pack(int, int, int)}
+ */
+public record BlockKey(UUID world, long position) {
+
+    public static BlockKey of(Block block) {
+        return new BlockKey(block.getWorld().getUID(), pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    public static BlockKey of(Location location) {
+        return new BlockKey(location.getWorld().getUID(), pack(location.getBlockX(), location.getBlockY(), location.getBlockZ()));
+    }
+
+    public static BlockKey of(World world, int x, int y, int z) {
+        return new BlockKey(world.getUID(), pack(x, y, z));
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public int getX() {
+        return (int) (position >> 38);
+    }
+
+    public int getY() {
+        return (int) (position << 52 >> 52);
+    }
+
+    public int getZ() {
+        return (int) (position << 26 >> 38);
+    }
+
+    /**
+     * The key of the Chunk this Block is in, x in the upper and z in the lower 32 bits
+     */
+    public long getChunkKey() {
+        return chunkKey(getX() >> 4, getZ() >> 4);
+    }
+
+    /**
+     * Pack Chunk coordinates the same way as {@link #getChunkKey()}
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The Chunk x coordinate of a key from {@link #chunkKey(int, int)}
+     */
+    public static int chunkX(long chunkKey) {
+        return (int) (chunkKey >> 32);
+    }
+
+    /**
+     * The Chunk z coordinate of a key from {@link #chunkKey(int, int)}
+     */
+    public static int chunkZ(long chunkKey) {
+        return (int) chunkKey;
+    }
+
+    /**
+     * The Block at this position, null if the World is not loaded
+     */
+    @Nullable
+    public Block getBlock() {
+        World world = Bukkit.getWorld(this.world);
+        if (world == null) {
+            return null;
+        }
+        return world.getBlockAt(getX(), getY(), getZ());
+    }
+
+    @Override
+    public String toString() {
+        return world + "," + getX() + "," + getY() + "," + getZ();
+    }
+}
@@ -24,6 +24,7 @@ import org.bukkit.Location;
 import org.bukkit.block.Block;
 
 import java.util.List;
+import java.util.Objects;
 
 public class BoundingBox {
 
@@ -50,6 +51,30 @@ public class BoundingBox {
         return contains(block.getX(), block.getY(), block.getZ());
     }
 
+    public int getMinX() {
+        return x1;
+    }
+
+    public int getMinY() {
+        return y1;
+    }
+
+    public int getMinZ() {
+        return z1;
+    }
+
+    public int getMaxX() {
+        return x2;
+    }
+
+    public int getMaxY() {
+        return y2;
+    }
+
+    public int getMaxZ() {
+        return z2;
+    }
+
     public long area() {
         return ((long) (x2 - x1 + 1)) * ((long) (y2 - y1 + 1)) * ((long) (z2 - z1 + 1));
     }
@@ -69,6 +94,18 @@ public class BoundingBox {
         this.z2 = Math.max(z2, z1);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoundingBox other)) return false;
+        return x1 == other.x1 && y1 == other.y1 && z1 == other.z1 && x2 == other.x2 && y2 == other.y2 && z2 == other.z2;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(x1, y1, z1, x2, y2, z2);
+    }
+
     public String serialize() {
         return x1 + "," + y1 + "," + z1 + "," + x2 + "," + y2 + "," + z2;
     }
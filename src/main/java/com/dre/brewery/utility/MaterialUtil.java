@@ -34,6 +34,7 @@ import org.bukkit.material.MaterialData;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.BitSet;
 
 public final class MaterialUtil {
 
@@ -57,6 +58,17 @@ public final class MaterialUtil {
     public static final Material SOUL_FIRE = getMaterialSafely("SOUL_FIRE");
     public static final Material CLOCK = getV1_13MaterialSafely("CLOCK", "WATCH");
 
+    // Material ordinals of everything that can heat a Cauldron
+    private static final BitSet HEAT_SOURCES = new BitSet();
+
+    static {
+        for (Material material : new Material[]{ Material.FIRE, SOUL_FIRE, MAGMA_BLOCK, CAMPFIRE, SOUL_CAMPFIRE, Material.LAVA, STATIONARY_LAVA }) {
+            if (material != null) {
+                HEAT_SOURCES.set(material.ordinal());
+            }
+        }
+    }
+
 
     public static Method getMethod(String clazz, String name, Class<?>... parameterTypes) {
         try {
@@ -102,6 +114,14 @@ public final class MaterialUtil {
         return type == Material.FIRE || type == SOUL_FIRE || type == MAGMA_BLOCK || litCampfire(block) || isLava(type);
     }
 
+    /**
+     * Quick test if a Block of this Material can heat a Cauldron at all, without looking at the Block.
+     * <p>A single bit test, use it to skip irrelevant Blocks in frequent events.
+     */
+    public static boolean isHeatSourceMaterial(Material type) {
+        return type != null && HEAT_SOURCES.get(type.ordinal());
+    }
+
     // LAVA and STATIONARY_LAVA are merged as of 1.13
     public static boolean isLava(Material type) {
         return type == Material.LAVA || (VERSION.isOrEarlier(MinecraftVersion.V1_13) && type == STATIONARY_LAVA);
@@ -0,0 +1,85 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.utility;
+
+import com.dre.brewery.BreweryPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs an action for many things placed in the World with one scheduled task per region, instead of one task each.
+ * <p>On Folia, the things are grouped by sections of 16x16 Chunks, which Folia never splits between regions.
+ * Everywhere else there is only the main thread, so they are all handled in a single task,
+ * or right away when already called on the main thread.
+ */
+public final class RegionBatchExecutor {
+
+    // Chunk coordinates to section coordinates
+    private static final int SECTION_SHIFT = 4;
+
+    private RegionBatchExecutor() {
+    }
+
+    /**
+     * Run the action for all elements, each on the thread owning its Block.
+     *
+     * @param elements The elements to run the action for. Only iterated once, right away
+     * @param blockOf  The Block of an element, which decides the thread it runs on
+     * @param action   The action to run for each element
+     */
+    public static <T> void execute(Collection<T> elements, Function<T, Block> blockOf, Consumer<T> action) {
+        if (elements.isEmpty()) {
+            return;
+        }
+        if (!MinecraftVersion.isFolia()) {
+            if (Bukkit.isPrimaryThread()) {
+                elements.forEach(action);
+            } else {
+                List<T> batch = new ArrayList<>(elements);
+                BreweryPlugin.getScheduler().runTask(() -> batch.forEach(action));
+            }
+            return;
+        }
+
+        Map<Section, List<T>> sections = new HashMap<>();
+        for (T element : elements) {
+            Block block = blockOf.apply(element);
+            Section section = new Section(block.getWorld().getUID(),
+                BlockKey.chunkKey(block.getX() >> 4 >> SECTION_SHIFT, block.getZ() >> 4 >> SECTION_SHIFT));
+            sections.computeIfAbsent(section, k -> new ArrayList<>()).add(element);
+        }
+        for (List<T> batch : sections.values()) {
+            BreweryPlugin.getScheduler().runTask(blockOf.apply(batch.get(0)).getLocation(), () -> batch.forEach(action));
+        }
+    }
+
+    private record Section(UUID world, long key) {
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+package com.dre.brewery.utility;
+
+import org.bukkit.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe Map of Block positions, partitioned by the World they are in.
+ * <p>Works like any other Map, but everything in one World can be queried or removed
+ * without looking at the entries of all other Worlds.
+ * <p>Inside each World the entries are also bucketed by Chunk, so everything around a position can be found
+ * without looking at the rest of the World.
+ * <p>get, containsKey and remove also take a Block, so code written for a Map keyed by Block keeps working.
+ */
+public class WorldPartitionedMap<V> extends AbstractMap<BlockKey, V> {
+
+    private final Map<UUID, Partition<V>> worlds = new ConcurrentHashMap<>();
+
+    @Override
+    public V get(Object key) {
+        BlockKey blockKey = keyOf(key);
+        if (blockKey == null) {
+            return null;
+        }
+        Partition<V> world = worlds.get(blockKey.world());
+        return world == null ? null : world.entries.get(blockKey);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(BlockKey key, V value) {
+        return worlds.computeIfAbsent(key.world(), k -> new Partition<>()).put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        BlockKey blockKey = keyOf(key);
+        if (blockKey == null) {
+            return null;
+        }
+        Partition<V> world = worlds.get(blockKey.world());
+        return world == null ? null : world.remove(blockKey);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Partition<V> world : worlds.values()) {
+            size += world.entries.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Partition<V> world : worlds.values()) {
+            if (!world.entries.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        worlds.clear();
+    }
+
+    @Nullable
+    private static BlockKey keyOf(Object key) {
+        if (key instanceof BlockKey blockKey) {
+            return blockKey;
+        }
+        if (key instanceof Block block) {
+            return BlockKey.of(block);
+        }
+        return null;
+    }
+
+    /**
+     * If there is anything in this World
+     */
+    public boolean hasWorld(UUID world) {
+        Partition<V> partition = worlds.get(world);
+        return partition != null && !partition.entries.isEmpty();
+    }
+
+    /**
+     * Everything in this Chunk of the World
+     *
+     * @return Unmodifiable view of the values in the Chunk
+     */
+    public Collection<V> getInChunk(UUID world, int chunkX, int chunkZ) {
+        Partition<V> partition = worlds.get(world);
+        if (partition == null) {
+            return Collections.emptyList();
+        }
+        Map<BlockKey, V> chunk = partition.chunks.get(BlockKey.chunkKey(chunkX, chunkZ));
+        return chunk == null ? Collections.emptyList() : Collections.unmodifiableCollection(chunk.values());
+    }
+
+    /**
+     * Remove everything in this World at once
+     *
+     * @return The removed entries of the World
+     */
+    public Map<BlockKey, V> removeWorld(UUID world) {
+        Partition<V> removed = worlds.remove(world);
+        return removed == null ? Collections.emptyMap() : removed.entries;
+    }
+
+    /**
+     * The Worlds that currently have entries, or had them until recently
+     */
+    public Set<UUID> getWorlds() {
+        return worlds.keySet();
+    }
+
+    @NotNull
+    @Override
+    public Set<Entry<BlockKey, V>> entrySet() {
+        return new AbstractSet<>() {
+            @NotNull
+            @Override
+            public Iterator<Entry<BlockKey, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return WorldPartitionedMap.this.size();
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Entry<BlockKey, V>> {
+        private final Iterator<Partition<V>> worldIterator = worlds.values().iterator();
+        @Nullable
+        private Iterator<Entry<BlockKey, V>> current;
+        @Nullable
+        private Entry<BlockKey, V> lastReturned; // hasNext() may already have moved on to the next World
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || !current.hasNext()) {
+                if (!worldIterator.hasNext()) {
+                    return false;
+                }
+                current = worldIterator.next().entries.entrySet().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<BlockKey, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = current.next();
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            WorldPartitionedMap.this.remove(lastReturned.getKey(), lastReturned.getValue());
+            lastReturned = null;
+        }
+    }
+
+    private static final class Partition<V> {
+        private final Map<BlockKey, V> entries = new ConcurrentHashMap<>();
+        private final Map<Long, Map<BlockKey, V>> chunks = new ConcurrentHashMap<>();
+
+        private V put(BlockKey key, V value) {
+            V old = entries.put(key, value);
+            chunks.compute(key.getChunkKey(), (k, chunk) -> {
+                if (chunk == null) {
+                    chunk = new ConcurrentHashMap<>(4);
+                }
+                chunk.put(key, value);
+                return chunk;
+            });
+            return old;
+        }
+
+        private V remove(BlockKey key) {
+            V old = entries.remove(key);
+            if (old != null) {
+                chunks.computeIfPresent(key.getChunkKey(), (k, chunk) -> {
+                    chunk.remove(key);
+                    return chunk.isEmpty() ? null : chunk;
+                });
+            }
+            return old;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+
+package com.dre.brewery.lore;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.security.InvalidKeyException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that BrewCodec reads and writes the same format as the XORScrambleStream/XORUnscrambleStream stack
+ * <p>Only uses the codec and the streams, which don't need the plugin or a server
+ */
+public class BrewCodecTest {
+
+    private static final int RUNS = 2000;
+    private static final byte VERSION = 1; // Brew.SAVE_VER
+
+    @Test
+    public void encodeReadByStreams() throws IOException, InvalidKeyException {
+        Random random = new Random(86);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            boolean scramble = random.nextBoolean();
+            byte[] payload = payload(random);
+
+            Result result = streamDecode(BrewCodec.encode(seed, scramble, writer(payload)), seed, null);
+            assertEquals(scramble ? XORUnscrambleStream.SuccessType.MAIN_SEED : XORUnscrambleStream.SuccessType.UNSCRAMBLED, result.successType);
+            assertArrayEquals(payload, result.payload);
+        }
+    }
+
+    @Test
+    public void streamsReadByDecode() throws IOException, InvalidKeyException {
+        Random random = new Random(87);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            boolean scramble = random.nextBoolean();
+            byte[] payload = payload(random);
+
+            Result result = codecDecode(streamEncode(seed, scramble, payload), seed, null);
+            assertEquals(scramble ? XORUnscrambleStream.SuccessType.MAIN_SEED : XORUnscrambleStream.SuccessType.UNSCRAMBLED, result.successType);
+            assertArrayEquals(payload, result.payload);
+        }
+    }
+
+    @Test
+    public void previousSeed() throws IOException {
+        Random random = new Random(88);
+        int prevSeedUsed = 0;
+        for (int run = 0; run < RUNS; run++) {
+            long prevSeed = random.nextLong();
+            long seed = random.nextLong();
+            List<Long> prevSeeds = Arrays.asList(random.nextLong(), prevSeed);
+            byte[] payload = payload(random);
+            byte[] data = random.nextBoolean() ? BrewCodec.encode(prevSeed, true, writer(payload)) : streamEncode(prevSeed, true, payload);
+
+            // The seed parity is only one byte, so a wrong seed passes it now and then, in the same way for both
+            Result streams = tryDecode(() -> streamDecode(data, seed, prevSeeds));
+            Result codec = tryDecode(() -> codecDecode(data, seed, prevSeeds));
+            assertEquals(streams.successType, codec.successType);
+            assertEquals(streams.failed, codec.failed);
+            if (codec.successType == XORUnscrambleStream.SuccessType.PREV_SEED) {
+                assertArrayEquals(payload, codec.payload);
+                assertArrayEquals(payload, streams.payload);
+                prevSeedUsed++;
+            }
+        }
+        assertTrue(prevSeedUsed > RUNS * 9 / 10, "Previous seed only used in " + prevSeedUsed + " of " + RUNS);
+    }
+
+    @Test
+    public void unscrambled() throws IOException, InvalidKeyException {
+        Random random = new Random(89);
+        for (int run = 0; run < RUNS; run++) {
+            long seed = random.nextLong();
+            long otherSeed = random.nextLong();
+            byte[] payload = payload(random);
+
+            // Without a seed id, both write the exact same bytes
+            byte[] data = BrewCodec.encode(seed, false, writer(payload));
+            assertArrayEquals(streamEncode(seed, false, payload), data);
+
+            // Unscrambled data does not depend on the seed
+            Result streams = streamDecode(data, otherSeed, null);
+            Result codec = codecDecode(data, otherSeed, null);
+            assertEquals(XORUnscrambleStream.SuccessType.UNSCRAMBLED, streams.successType);
+            assertEquals(XORUnscrambleStream.SuccessType.UNSCRAMBLED, codec.successType);
+            assertArrayEquals(payload, streams.payload);
+            assertArrayEquals(payload, codec.payload);
+        }
+    }
+
+    @Test
+    public void unsupportedVersion() throws IOException, InvalidKeyException {
+        byte[] data = BrewCodec.encode(1234, true, writer(new byte[]{ 1, 2, 3 }));
+        data[1] = 2;
+        assertNull(BrewCodec.decode(data, 1234, null, (in, dataVersion) -> {
+            throw new AssertionError("Read data of unsupported version " + dataVersion);
+        }));
+    }
+
+    @Test
+    public void parity() throws IOException, InvalidKeyException {
+        byte[] data = BrewCodec.encode(1234, false, writer(new byte[]{ 1, 2, 3 }));
+        assertTrue(BrewCodec.hasParity(data), "Encoded data has no parity");
+
+        // Wrong parity is reported, but the data is still read
+        data[0] = 0;
+        assertFalse(BrewCodec.hasParity(data), "Changed parity not detected");
+        assertArrayEquals(new byte[]{ 1, 2, 3 }, codecDecode(data, 1234, null).payload);
+    }
+
+    private static byte[] payload(Random random) {
+        byte[] payload = new byte[random.nextInt(300)];
+        random.nextBytes(payload);
+        return payload;
+    }
+
+    private static BrewCodec.PayloadWriter writer(byte[] payload) {
+        return out -> {
+            out.writeShort(payload.length);
+            out.write(payload);
+        };
+    }
+
+    private static byte[] readPayload(DataInputStream in) throws IOException {
+        byte[] payload = new byte[in.readUnsignedShort()];
+        in.readFully(payload);
+        return payload;
+    }
+
+    /**
+     * Encode like Brew did before BrewCodec
+     */
+    private static byte[] streamEncode(long seed, boolean scramble, byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        XORScrambleStream scrambler = new XORScrambleStream(bytes, seed);
+        try (DataOutputStream out = new DataOutputStream(scrambler)) {
+            out.writeByte(86); // Parity/sanity
+            out.writeByte(VERSION); // Version
+            if (scramble) {
+                scrambler.start();
+            } else {
+                scrambler.startUnscrambled();
+            }
+            writer(payload).write(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode like Brew did before BrewCodec
+     */
+    private static Result streamDecode(byte[] data, long seed, List<Long> prevSeeds) throws IOException, InvalidKeyException {
+        XORUnscrambleStream unscrambler = new XORUnscrambleStream(new ByteArrayInputStream(data), seed, prevSeeds);
+        try (DataInputStream in = new DataInputStream(unscrambler)) {
+            assertEquals(86, in.readByte());
+            assertEquals(VERSION, in.readByte());
+            unscrambler.start();
+            byte[] payload = readPayload(in);
+            return new Result(unscrambler.getSuccessType(), payload, false);
+        }
+    }
+
+    private static Result codecDecode(byte[] data, long seed, List<Long> prevSeeds) throws IOException, InvalidKeyException {
+        byte[][] payload = new byte[1][];
+        XORUnscrambleStream.SuccessType successType = BrewCodec.decode(data, seed, prevSeeds, (in, dataVersion) -> {
+            assertEquals(VERSION, dataVersion);
+            payload[0] = readPayload(in);
+        });
+        return new Result(successType, payload[0], false);
+    }
+
+    /**
+     * Decode, with a failed Result if the data could not be read
+     */
+    private static Result tryDecode(Decoder decoder) {
+        try {
+            return decoder.decode();
+        } catch (IOException | InvalidKeyException e) {
+            return new Result(null, null, true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Result decode() throws IOException, InvalidKeyException;
+    }
+
+    private record Result(XORUnscrambleStream.SuccessType successType, byte[] payload, boolean failed) {
+    }
+}
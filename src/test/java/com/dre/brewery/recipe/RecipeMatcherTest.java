@@ -0,0 +1,140 @@
+/*
+ * BreweryX Bukkit-Plugin for an alternate brewing process
+ * Copyright (C) 2024 The Brewery Team
+ *
+ * This file is part of BreweryX.
+ *
+ * BreweryX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * BreweryX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with BreweryX. If not, see <http://www.gnu.org/licenses/gpl-3.0.html>.
+ */
+
+
+package com.dre.brewery.recipe;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the compiled RecipeMatcher with the Ingredient quality formula it replaced
+ * <p>Recipes are not built with BRecipe.Builder, its PotionColor needs a running server
+ */
+public class RecipeMatcherTest {
+
+    private static final Material[] MATERIALS = {
+        Material.WHEAT, Material.SUGAR, Material.APPLE, Material.POTATO,
+        Material.CARROT, Material.COCOA_BEANS, Material.MELON_SLICE, Material.HONEY_BOTTLE
+    };
+
+    @Test
+    public void itemWithoutAmountCountsAsBadIngredient() {
+        // Added through the api without amount, so its amount is 0
+        BRecipe recipe = recipe(3, new SimpleItem(Material.WHEAT), item(Material.SUGAR, 4));
+
+        List<Ingredient> ingredients = new ArrayList<>();
+        ingredients.add(item(Material.WHEAT, 2));
+        ingredients.add(item(Material.SUGAR, 5));
+
+        assertEquals(oldIngredientQuality(recipe, ingredients), recipe.getMatcher().getIngredientQuality(ingredients));
+    }
+
+    @Test
+    public void sameAsOldFormula() {
+        Random random = new Random(4242);
+        for (int run = 0; run < 20000; run++) {
+            RecipeItem[] items = new RecipeItem[1 + random.nextInt(4)];
+            for (int i = 0; i < items.length; i++) {
+                // Only the first half of the Materials, so some Ingredients don't belong
+                Material mat = MATERIALS[random.nextInt(MATERIALS.length / 2)];
+                if (random.nextInt(5) == 0) {
+                    items[i] = new SimpleItem(mat);
+                } else {
+                    items[i] = item(mat, 1 + random.nextInt(16));
+                }
+            }
+            BRecipe recipe = recipe(random.nextInt(11), items);
+
+            List<Ingredient> ingredients = new ArrayList<>();
+            int size = 1 + random.nextInt(6);
+            for (int i = 0; i < size; i++) {
+                ingredients.add(item(MATERIALS[random.nextInt(MATERIALS.length)], 1 + random.nextInt(20)));
+            }
+
+            assertEquals(oldIngredientQuality(recipe, ingredients), recipe.getMatcher().getIngredientQuality(ingredients),
+                "Run " + run);
+        }
+    }
+
+    private static BRecipe recipe(int difficulty, RecipeItem... items) {
+        BRecipe recipe = new BRecipe();
+        recipe.setDifficulty(difficulty);
+        recipe.setCookingTime(5);
+        Collections.addAll(recipe.getIngredients(), items);
+        return recipe;
+    }
+
+    private static SimpleItem item(Material mat, int amount) {
+        SimpleItem item = new SimpleItem(mat);
+        item.setAmount(amount);
+        return item;
+    }
+
+    /**
+     * BIngredients.getIngredientQuality as it was before the RecipeMatcher
+     */
+    private static int oldIngredientQuality(BRecipe recipe, List<Ingredient> ingredients) {
+        float quality = 10;
+        int count;
+        int badStuff = 0;
+        if (recipe.isMissingIngredients(ingredients)) {
+            // when ingredients are not complete
+            return -1;
+        }
+        int ingredientsCount = 0;
+        for (Ingredient ingredient : ingredients) {
+            ingredientsCount += ingredient.getAmount();
+        }
+        for (Ingredient ingredient : ingredients) {
+            int amountInRecipe = recipe.amountOf(ingredient);
+            count = ingredient.getAmount();
+            if (amountInRecipe == 0) {
+                // this ingredient doesnt belong into the recipe
+                if (count > (ingredientsCount / 2)) {
+                    // when more than half of the ingredients dont fit into the recipe
+                    return -1;
+                }
+                badStuff++;
+                if (badStuff < ingredients.size()) {
+                    // when there are other ingredients
+                    quality -= count * (recipe.getDifficulty() / 2.0);
+                    continue;
+                } else {
+                    // ingredients dont fit at all
+                    return -1;
+                }
+            }
+            // calculate the quality
+            quality -= ((float) Math.abs(count - amountInRecipe) / recipe.allowedCountDiff(amountInRecipe)) * 10.0;
+        }
+        if (quality >= 0) {
+            return Math.round(quality);
+        }
+        return -1;
+    }
+}